@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.benchmark;
+
+import android.orm.util.ObjectPool;
+import android.support.annotation.NonNull;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PoolBenchmark {
+
+    private final ObjectPool<Striped> mStriped = new ObjectPool<Striped>() {
+        @NonNull
+        @Override
+        protected Striped produce(@NonNull final ObjectPool.Receipt<Striped> receipt) {
+            return new Striped(receipt);
+        }
+    };
+
+    private final SemaphorePool<Locked> mLocked = new SemaphorePool<Locked>() {
+        @NonNull
+        @Override
+        protected Locked produce(@NonNull final SemaphorePool.Receipt<Locked> receipt) {
+            return new Locked(receipt);
+        }
+    };
+
+    @Benchmark
+    @Threads(1)
+    public final int striped1() {
+        return striped();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public final int striped4() {
+        return striped();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public final int striped16() {
+        return striped();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final int semaphore1() {
+        return semaphore();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public final int semaphore4() {
+        return semaphore();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public final int semaphore16() {
+        return semaphore();
+    }
+
+    private int striped() {
+        final Striped element = mStriped.borrow();
+        try {
+            return ++element.mUses;
+        } finally {
+            element.mReceipt.yield();
+        }
+    }
+
+    private int semaphore() {
+        final Locked element = mLocked.borrow();
+        try {
+            return ++element.mUses;
+        } finally {
+            element.mReceipt.yield();
+        }
+    }
+
+    private static class Striped {
+
+        @NonNull
+        private final ObjectPool.Receipt<Striped> mReceipt;
+        private int mUses = 0;
+
+        private Striped(@NonNull final ObjectPool.Receipt<Striped> receipt) {
+            super();
+
+            mReceipt = receipt;
+        }
+    }
+
+    private static class Locked {
+
+        @NonNull
+        private final SemaphorePool.Receipt<Locked> mReceipt;
+        private int mUses = 0;
+
+        private Locked(@NonNull final SemaphorePool.Receipt<Locked> receipt) {
+            super();
+
+            mReceipt = receipt;
+        }
+    }
+}
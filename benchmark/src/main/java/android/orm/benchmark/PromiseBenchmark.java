@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.benchmark;
+
+import android.orm.util.Future;
+import android.orm.util.Promise;
+import android.support.annotation.NonNull;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PromiseBenchmark {
+
+    private static final Object VALUE = new Object();
+
+    private final Counter mCounter = new Counter();
+
+    @Benchmark
+    public final int lockFreeRegisterFirst() {
+        final Promise<Object> promise = new Promise<>();
+        promise.getFuture().onComplete(null, mCounter);
+        promise.getFuture().onComplete(null, mCounter);
+        promise.success(VALUE);
+        return mCounter.mResults;
+    }
+
+    @Benchmark
+    public final int lockFreeCompleteFirst() {
+        final Promise<Object> promise = new Promise<>();
+        promise.success(VALUE);
+        promise.getFuture().onComplete(null, mCounter);
+        return mCounter.mResults;
+    }
+
+    @Benchmark
+    public final int semaphoreRegisterFirst() {
+        final SemaphorePromise<Object> promise = new SemaphorePromise<>();
+        promise.getFuture().onComplete(null, mCounter);
+        promise.getFuture().onComplete(null, mCounter);
+        promise.success(VALUE);
+        return mCounter.mResults;
+    }
+
+    @Benchmark
+    public final int semaphoreCompleteFirst() {
+        final SemaphorePromise<Object> promise = new SemaphorePromise<>();
+        promise.success(VALUE);
+        promise.getFuture().onComplete(null, mCounter);
+        return mCounter.mResults;
+    }
+
+    private static class Counter implements Future.Callback<Object> {
+
+        private int mResults = 0;
+
+        @Override
+        public final void onResult(@NonNull final Object value) {
+            mResults++;
+        }
+
+        @Override
+        public final void onError(@NonNull final Throwable error) {
+            throw new AssertionError(error);
+        }
+    }
+}
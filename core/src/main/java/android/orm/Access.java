@@ -16,6 +16,7 @@
 
 package android.orm;
 
+import android.orm.dao.Keys;
 import android.orm.dao.Result;
 import android.orm.model.Instance;
 import android.orm.model.Mapper;
@@ -24,11 +25,14 @@ import android.orm.sql.AggregateFunction;
 import android.orm.sql.Reader;
 import android.orm.sql.Value;
 import android.orm.sql.Writer;
+import android.orm.sql.fragment.Keyset;
 import android.orm.sql.fragment.Limit;
 import android.orm.sql.fragment.Offset;
 import android.orm.sql.fragment.Order;
 import android.orm.sql.fragment.Predicate;
+import android.orm.util.Consumer;
 import android.orm.util.Maybe;
+import android.orm.util.Stream;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
@@ -133,6 +137,24 @@ public final class Access {
                     @Override
                     <M> Maybe<M> select(@NonNull final Reading.Many<M> reading);
 
+                    @NonNull
+                    <V> Maybe<Stream<V>> stream(@NonNull final Value.Read<V> value);
+
+                    @NonNull
+                    <M> Maybe<Stream<M>> stream(@NonNull final Mapper.Read<M> mapper);
+
+                    @NonNull
+                    <V> Maybe<Keyset.Page<V>> page(@NonNull final Keyset keyset,
+                                                   @Nullable final Keyset.Token after,
+                                                   final int size,
+                                                   @NonNull final Value.Read<V> value);
+
+                    @NonNull
+                    <M> Maybe<Keyset.Page<M>> page(@NonNull final Keyset keyset,
+                                                   @Nullable final Keyset.Token after,
+                                                   final int size,
+                                                   @NonNull final Mapper.Read<M> mapper);
+
                     @NonNull
                     @Override
                     <V> Maybe<V> select(@NonNull final Reader.Collection<V> reader);
@@ -161,7 +183,7 @@ public final class Access {
             }
         }
 
-        public interface Insert<K> extends Access.Insert<Maybe<K>> {
+        public interface Insert<K> extends Access.Insert<Maybe<K>>, Access.InsertAll<Maybe<Keys<K>>> {
         }
 
         public static final class Update {
@@ -307,6 +329,28 @@ public final class Access {
                     @Override
                     <M> Result<M> select(@NonNull final Reading.Many<M> reading);
 
+                    @NonNull
+                    <V> Result<Integer> stream(@NonNull final Value.Read<V> value,
+                                               final int chunk,
+                                               @NonNull final Consumer<List<V>> consumer);
+
+                    @NonNull
+                    <M> Result<Integer> stream(@NonNull final Mapper.Read<M> mapper,
+                                               final int chunk,
+                                               @NonNull final Consumer<List<M>> consumer);
+
+                    @NonNull
+                    <V> Result<Keyset.Page<V>> page(@NonNull final Keyset keyset,
+                                                    @Nullable final Keyset.Token after,
+                                                    final int size,
+                                                    @NonNull final Value.Read<V> value);
+
+                    @NonNull
+                    <M> Result<Keyset.Page<M>> page(@NonNull final Keyset keyset,
+                                                    @Nullable final Keyset.Token after,
+                                                    final int size,
+                                                    @NonNull final Mapper.Read<M> mapper);
+
                     @NonNull
                     @Override
                     <V> Result<V> select(@NonNull final Reader.Collection<V> reader);
@@ -335,7 +379,7 @@ public final class Access {
             }
         }
 
-        public interface Insert<K> extends Access.Insert<Result<K>> {
+        public interface Insert<K> extends Access.Insert<Result<K>>, Access.InsertAll<Result<Keys<K>>> {
         }
 
         public static final class Update {
@@ -509,6 +553,30 @@ public final class Access {
         <M> R insert(@Nullable final M model, @NonNull final Mapper.Write<M> mapper);
     }
 
+    public interface InsertAll<R> {
+
+        /* models are written in chunks of at most chunk rows (a single chunk by default), each in its own
+         * transaction; a failure keeps the chunks committed before it, unless the insert runs inside an
+         * enclosing transaction, which then commits or rolls back all of them together */
+        @NonNull
+        <M> R insertAll(@NonNull final Iterable<? extends M> models,
+                        @NonNull final Value.Write<M> value);
+
+        @NonNull
+        <M> R insertAll(@NonNull final Iterable<? extends M> models,
+                        @NonNull final Value.Write<M> value,
+                        final int chunk);
+
+        @NonNull
+        <M> R insertAll(@NonNull final Iterable<? extends M> models,
+                        @NonNull final Mapper.Write<M> mapper);
+
+        @NonNull
+        <M> R insertAll(@NonNull final Iterable<? extends M> models,
+                        @NonNull final Mapper.Write<M> mapper,
+                        final int chunk);
+    }
+
     public interface Update<R> {
 
         @NonNull
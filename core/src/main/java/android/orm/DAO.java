@@ -22,12 +22,14 @@ import android.orm.dao.ErrorHandler;
 import android.orm.dao.Executor;
 import android.orm.dao.Result;
 import android.orm.dao.Transaction;
+import android.orm.dao.async.GroupCommit;
 import android.orm.sql.Column;
 import android.orm.sql.Expression;
 import android.orm.sql.Statement;
 import android.orm.sql.fragment.Predicate;
 import android.orm.sql.table.PrimaryKey;
 import android.orm.sql.table.UniqueKey;
+import android.orm.util.Cancelable;
 import android.orm.util.Lazy;
 import android.orm.util.Maybe;
 import android.support.annotation.NonNull;
@@ -35,10 +37,11 @@ import android.support.annotation.Nullable;
 
 import org.jetbrains.annotations.NonNls;
 
+import java.util.Collection;
 import java.util.concurrent.ExecutorService;
 
+import static android.orm.dao.direct.Executors.keyed;
 import static android.orm.dao.direct.Executors.many;
-import static android.orm.dao.direct.Executors.single;
 import static android.orm.sql.Value.Write.Operation.Insert;
 import static android.orm.sql.Values.RowId;
 import static android.orm.sql.Writables.writable;
@@ -60,7 +63,7 @@ public final class DAO {
             @NonNull
             @Override
             public Executor.Direct.Single<Long> create(@NonNull final android.orm.sql.Executor executor) {
-                return single(executor, table, predicate, onInsert, RowId);
+                return keyed(executor, table, predicate, onInsert, RowId);
             }
         };
     }
@@ -90,7 +93,7 @@ public final class DAO {
             @NonNull
             @Override
             public Executor.Direct.Single<K> create(@NonNull final android.orm.sql.Executor executor) {
-                return single(executor, table, predicate, onInsert, key);
+                return keyed(executor, table, predicate, onInsert, key);
             }
         };
     }
@@ -141,7 +144,7 @@ public final class DAO {
             @NonNull
             @Override
             public Executor.Direct.Single<V> create(@NonNull final android.orm.sql.Executor executor) {
-                return single(executor, table, predicate, onInsert, uniqueKey);
+                return keyed(executor, table, predicate, onInsert, uniqueKey);
             }
         };
     }
@@ -170,6 +173,16 @@ public final class DAO {
         return new android.orm.dao.Async(android.orm.dao.Direct.create(context, database), executor);
     }
 
+    @NonNull
+    public static Async create(@NonNull final Context context,
+                               @NonNull final Database database,
+                               @NonNull final ExecutorService executor,
+                               final long window) {
+        final Direct direct = android.orm.dao.Direct.create(context, database);
+        final GroupCommit writer = new GroupCommit(direct, window, GroupCommit.DEFAULT_MAX_SIZE);
+        return new android.orm.dao.Async(direct, executor, writer);
+    }
+
     public interface Executors {
 
         Lazy<ExecutorService> SingleThread = new Lazy.Volatile<ExecutorService>() {
@@ -215,6 +228,8 @@ public final class DAO {
 
         void setErrorHandler(@Nullable final ErrorHandler handler);
 
+        void shutdown();
+
         @NonNull
         <K> Access.Async.Single<K> access(@NonNull final Executor.Direct.Single.Factory<? super Direct, K> factory);
 
@@ -229,6 +244,16 @@ public final class DAO {
 
         @NonNull
         <V> Result<V> execute(@NonNull final Transaction.Direct<V> transaction);
+
+        @NonNull
+        <V> Cancelable watch(@NonNls @NonNull final String table,
+                             @NonNull final Expression<V> expression,
+                             @NonNull final Result.Callback<? super V> callback);
+
+        @NonNull
+        <V> Cancelable watch(@NonNls @NonNull final Collection<String> tables,
+                             @NonNull final Expression<V> expression,
+                             @NonNull final Result.Callback<? super V> callback);
     }
 
     private DAO() {
@@ -20,11 +20,14 @@ import android.content.Context;
 import android.database.SQLException;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.orm.dao.Changes;
 import android.orm.dao.Direct;
+import android.orm.dao.ResultCache;
 import android.orm.database.IntegrityCheck;
 import android.orm.database.IntegrityChecks;
 import android.orm.database.Migration;
 import android.orm.database.Migrations;
+import android.orm.database.StatementCache;
 import android.orm.sql.Executor;
 import android.orm.sql.Expression;
 import android.orm.sql.Statement;
@@ -44,6 +47,7 @@ import java.util.Map;
 import java.util.concurrent.Semaphore;
 
 import static android.os.Build.VERSION.SDK_INT;
+import static android.os.Build.VERSION_CODES.HONEYCOMB;
 import static android.os.Build.VERSION_CODES.JELLY_BEAN;
 import static android.text.TextUtils.isEmpty;
 import static android.util.Log.DEBUG;
@@ -74,6 +78,9 @@ public class Database {
     private final Function<SQLiteDatabase, DAO.Direct> mFactory;
 
     private final List<Migration> mMigrations = new ArrayList<>();
+    private boolean mWriteAheadLogging = false;
+    private int mResultCacheSize = 0;
+    private int mRowCacheSize = 0;
 
     public Database(@NonNls @Nullable final String name, final int version) {
         this(name, version, IntegrityChecks.None, DEFAULT_FACTORY);
@@ -113,6 +120,18 @@ public class Database {
         return mVersion;
     }
 
+    public final boolean isWriteAheadLogging() {
+        return mWriteAheadLogging;
+    }
+
+    public final int getResultCacheSize() {
+        return mResultCacheSize;
+    }
+
+    public final int getRowCacheSize() {
+        return mRowCacheSize;
+    }
+
     @NonNull
     public final Helper getHelper(@NonNull final Context context) {
         final Helper result;
@@ -121,7 +140,7 @@ public class Database {
         try {
             if (!sHelpers.containsKey(mName)) {
                 final Migration migration = Migrations.compose(mMigrations);
-                final Helper helper = new Helper(context, this, mCheck, mVersion, migration, mFactory);
+                final Helper helper = new Helper(context, this, mCheck, mVersion, migration, mFactory, mWriteAheadLogging, mResultCacheSize, mRowCacheSize);
                 sHelpers.put(mName, helper);
             }
             result = sHelpers.get(mName);
@@ -148,6 +167,62 @@ public class Database {
         return this;
     }
 
+    @NonNull
+    public final Database withWriteAheadLogging() {
+        sSemaphore.acquireUninterruptibly();
+        try {
+            if (sHelpers.containsKey(mName)) {
+                throw new UnsupportedOperationException("Write-ahead logging enabled too late! Database has been already opened.");
+            }
+
+            mWriteAheadLogging = true;
+        } finally {
+            sSemaphore.release();
+        }
+
+        return this;
+    }
+
+    @NonNull
+    public final Database withResultCache(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+
+        sSemaphore.acquireUninterruptibly();
+        try {
+            if (sHelpers.containsKey(mName)) {
+                throw new UnsupportedOperationException("Result cache enabled too late! Database has been already opened.");
+            }
+
+            mResultCacheSize = maxSize;
+        } finally {
+            sSemaphore.release();
+        }
+
+        return this;
+    }
+
+    @NonNull
+    public final Database withRowCache(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+
+        sSemaphore.acquireUninterruptibly();
+        try {
+            if (sHelpers.containsKey(mName)) {
+                throw new UnsupportedOperationException("Row cache enabled too late! Database has been already opened.");
+            }
+
+            mRowCacheSize = maxSize;
+        } finally {
+            sSemaphore.release();
+        }
+
+        return this;
+    }
+
     @Override
     public final boolean equals(@Nullable final Object object) {
         boolean result = this == object;
@@ -181,13 +256,25 @@ public class Database {
         @NonNls
         @NonNull
         private final String mName;
+        @NonNull
+        private final StatementCache mStatements = new StatementCache();
+        @NonNull
+        private final Changes mChanges = new Changes();
+        @Nullable
+        private final ResultCache mResults;
+        @Nullable
+        private final ResultCache mRows;
+        private final boolean mWriteAheadLogging;
 
         private Helper(@NonNull final Context context,
                        @NonNull final Database database,
                        @NonNull final IntegrityCheck check,
                        final int version,
                        @NonNull final Migration migration,
-                       @NonNull final Function<SQLiteDatabase, DAO.Direct> factory) {
+                       @NonNull final Function<SQLiteDatabase, DAO.Direct> factory,
+                       final boolean writeAheadLogging,
+                       final int resultCacheSize,
+                       final int rowCacheSize) {
             super(context, database.getName(), null, database.getVersion());
 
             mCheck = check;
@@ -197,36 +284,81 @@ public class Database {
 
             final String name = database.getName();
             mName = (name == null) ? "<memory>" : name;
+            mResults = (resultCacheSize > 0) ? new ResultCache(resultCacheSize) : null;
+            mRows = (rowCacheSize > 0) ? new ResultCache(rowCacheSize) : null;
+            mWriteAheadLogging = writeAheadLogging && (name != null) && (SDK_INT >= HONEYCOMB);
+            if (mWriteAheadLogging && (SDK_INT >= JELLY_BEAN)) {
+                setWriteAheadLoggingEnabled(true);
+            }
 
             if (Log.isLoggable(TAG, DEBUG)) {
                 Log.d(TAG, "Creating SQLite connection to database " + mName); //NON-NLS
             }
         }
 
+        @NonNull
+        public final StatementCache getStatementCache() {
+            return mStatements;
+        }
+
+        @Nullable
+        public final ResultCache getResultCache() {
+            return mResults;
+        }
+
+        @Nullable
+        public final ResultCache getRowCache() {
+            return mRows;
+        }
+
+        @NonNull
+        public final Changes getChanges() {
+            return mChanges;
+        }
+
         @Override
         public final void execute(@NonNull final Statement statement) {
             final SQLiteDatabase database = getWritableDatabase();
+            boolean successful = false;
             database.beginTransaction();
             try {
                 statement.execute(database);
+                Changes.changed(database);
                 database.setTransactionSuccessful();
+                successful = true;
             } finally {
                 database.endTransaction();
+                if (successful) {
+                    Changes.commit(database);
+                } else {
+                    Changes.rollback(database);
+                }
             }
         }
 
         @NonNull
         @Override
         public final <V> Maybe<V> execute(@NonNull final Expression<V> expression) {
-            final SQLiteDatabase database = getWritableDatabase();
             final Maybe<V> result;
 
-            database.beginTransaction();
-            try {
-                result = expression.execute(database);
-                database.setTransactionSuccessful();
-            } finally {
-                database.endTransaction();
+            if (expression instanceof Expression.ReadOnly) {
+                result = read(expression);
+            } else {
+                final SQLiteDatabase database = getWritableDatabase();
+                boolean successful = false;
+                database.beginTransaction();
+                try {
+                    result = expression.execute(database);
+                    database.setTransactionSuccessful();
+                    successful = true;
+                } finally {
+                    database.endTransaction();
+                    if (successful) {
+                        Changes.commit(database);
+                    } else {
+                        Changes.rollback(database);
+                    }
+                }
             }
 
             return result;
@@ -244,6 +376,60 @@ public class Database {
             }
         }
 
+        @Override
+        public final void onOpen(@NonNull final SQLiteDatabase database) {
+            super.onOpen(database);
+            mChanges.attach(database);
+            if (mResults != null) {
+                mResults.attach(database);
+            }
+            if (mRows != null) {
+                mRows.attachRows(database);
+            }
+            if (!database.isReadOnly()) {
+                if (mWriteAheadLogging && (SDK_INT < JELLY_BEAN)) {
+                    database.enableWriteAheadLogging();
+                }
+                mStatements.attach(database);
+            }
+        }
+
+        @Override
+        public final void close() {
+            mStatements.clear();
+            if (mResults != null) {
+                mResults.clear();
+            }
+            if (mRows != null) {
+                mRows.clear();
+            }
+            super.close();
+        }
+
+        @NonNull
+        private <V> Maybe<V> read(@NonNull final Expression<V> expression) {
+            final SQLiteDatabase database = getReadableDatabase();
+            final Maybe<V> result;
+
+            if (mWriteAheadLogging) {
+                result = expression.execute(database);
+            } else {
+                if (SDK_INT >= HONEYCOMB) {
+                    database.beginTransactionNonExclusive();
+                } else {
+                    database.beginTransaction();
+                }
+                try {
+                    result = expression.execute(database);
+                    database.setTransactionSuccessful();
+                } finally {
+                    database.endTransaction();
+                }
+            }
+
+            return result;
+        }
+
         @Override
         public final void onCreate(@NonNull final SQLiteDatabase database) {
             if (Log.isLoggable(TAG, INFO)) {
@@ -19,18 +19,25 @@ package android.orm.dao;
 import android.orm.Model;
 import android.orm.model.Instance;
 import android.orm.model.Mapper;
+import android.orm.model.Observer;
 import android.orm.sql.Value;
 import android.orm.sql.Writer;
 import android.orm.sql.fragment.Predicate;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import static android.orm.model.Observer.beforeInsert;
 import static android.orm.model.Observer.beforeUpdate;
 import static android.orm.util.Maybes.something;
 
 public final class Access {
 
+    public static final int DEFAULT_CHUNK_SIZE = Integer.MAX_VALUE;
+
     public abstract static class Single<E, I, U, D> extends Some<E, I, U, D> implements android.orm.Access.Single<E, I, U, D> {
         protected Single(@NonNull final Executor<E, I, U, D> executor) {
             super(executor);
@@ -211,6 +218,44 @@ public final class Access {
         }
     }
 
+    @NonNull
+    public static <M> List<Writer> writers(@NonNull final Iterable<? extends M> models,
+                                           @NonNull final Value.Write<M> value) {
+        final List<Writer> writers = new ArrayList<>();
+
+        for (final M model : models) {
+            beforeInsert(model);
+            writers.add(value.write(model));
+        }
+
+        return writers;
+    }
+
+    @NonNull
+    public static <M> List<Writer> writers(@NonNull final Iterable<? extends M> models,
+                                           @NonNull final Mapper.Write<M> mapper) {
+        final List<Writer> writers = new ArrayList<>();
+
+        for (final M model : models) {
+            beforeInsert(model);
+            writers.add(mapper.prepareWriter(something(model)));
+        }
+
+        return writers;
+    }
+
+    public static void afterInsertAll(@NonNull final Iterable<?> models, @NonNull final List<?> keys) {
+        final Iterator<?> iterator = keys.iterator();
+        for (final Object model : models) {
+            if (!iterator.hasNext()) {
+                break;
+            }
+            if (iterator.next() != null) {
+                Observer.afterInsert(model);
+            }
+        }
+    }
+
     private Access() {
         super();
     }
@@ -19,17 +19,26 @@ package android.orm.dao;
 import android.orm.Access;
 import android.orm.DAO;
 import android.orm.dao.async.ExecutionContext;
+import android.orm.dao.async.GroupCommit;
 import android.orm.sql.Expression;
 import android.orm.sql.Statement;
+import android.orm.util.Cancelable;
+import android.orm.util.Future;
 import android.orm.util.Maybe;
 import android.orm.util.ObjectPool;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import org.jetbrains.annotations.NonNls;
+
+import java.util.Collection;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static android.orm.dao.async.Executors.create;
 import static android.orm.util.Maybes.nothing;
+import static java.util.Collections.singleton;
 
 public class Async implements DAO.Async {
 
@@ -37,12 +46,25 @@ public class Async implements DAO.Async {
     private final DAO.Direct mDirectDAO;
     @NonNull
     private final ExecutionContext mExecutionContext;
+    @Nullable
+    private final Changes mChanges;
 
     public Async(@NonNull final DAO.Direct dao, @NonNull final ExecutorService executor) {
         super();
 
         mDirectDAO = dao;
         mExecutionContext = new ExecutionContext(executor);
+        mChanges = changes(dao);
+    }
+
+    public Async(@NonNull final DAO.Direct dao,
+                 @NonNull final ExecutorService executor,
+                 @NonNull final GroupCommit writer) {
+        super();
+
+        mDirectDAO = dao;
+        mExecutionContext = new ExecutionContext(executor, writer);
+        mChanges = changes(dao);
     }
 
     @Override
@@ -50,6 +72,11 @@ public class Async implements DAO.Async {
         mExecutionContext.setErrorHandler(handler);
     }
 
+    @Override
+    public final void shutdown() {
+        mExecutionContext.shutdown();
+    }
+
     @NonNull
     @Override
     public final <K> Access.Async.Single<K> access(@NonNull final Executor.Direct.Single.Factory<? super DAO.Direct, K> factory) {
@@ -69,7 +96,7 @@ public class Async implements DAO.Async {
     public final Result<Void> execute(@NonNull final Statement statement) {
         final Task.Statement task = Task.Statement.Pool.borrow();
         task.init(mDirectDAO, statement);
-        return mExecutionContext.execute(task);
+        return mExecutionContext.write(task);
     }
 
     @NonNull
@@ -78,7 +105,9 @@ public class Async implements DAO.Async {
     public final <V> Result<V> execute(@NonNull final Expression<V> expression) {
         final Task.Expression task = Task.Expression.Pool.borrow();
         task.init(mDirectDAO, expression);
-        return (Result<V>) (Object) mExecutionContext.execute(task);
+        return (Result<V>) (Object) ((expression instanceof Expression.ReadOnly) ?
+                mExecutionContext.execute(task) :
+                mExecutionContext.write(task));
     }
 
     @NonNull
@@ -87,7 +116,123 @@ public class Async implements DAO.Async {
     public final <V> Result<V> execute(@NonNull final Transaction.Direct<V> transaction) {
         final Task.Transaction task = Task.Transaction.Pool.borrow();
         task.init(mDirectDAO, transaction);
-        return (Result<V>) (Object) mExecutionContext.execute(task);
+        return (Result<V>) (Object) mExecutionContext.write(task);
+    }
+
+    @NonNull
+    @Override
+    public final <V> Cancelable watch(@NonNls @NonNull final String table,
+                                      @NonNull final android.orm.sql.Expression<V> expression,
+                                      @NonNull final Result.Callback<? super V> callback) {
+        return watch(singleton(table), expression, callback);
+    }
+
+    @NonNull
+    @Override
+    public final <V> Cancelable watch(@NonNls @NonNull final Collection<String> tables,
+                                      @NonNull final android.orm.sql.Expression<V> expression,
+                                      @NonNull final Result.Callback<? super V> callback) {
+        if (mChanges == null) {
+            throw new UnsupportedOperationException("Changes cannot be watched outside of a database");
+        }
+
+        final Watch<V> watch = new Watch<>(expression, callback);
+        watch.start(mChanges.subscribe(tables, watch));
+        return watch;
+    }
+
+    @Nullable
+    private static Changes changes(@NonNull final DAO.Direct dao) {
+        return (dao instanceof Direct.OutsideTransaction) ?
+                ((Direct.OutsideTransaction) dao).getChanges() :
+                null;
+    }
+
+    private class Watch<V> implements Changes.Listener, ExecutionContext.Task<V>, Cancelable {
+
+        @NonNull
+        private final android.orm.sql.Expression<V> mExpression;
+        @NonNull
+        private final Result.Callback<V> mCallback;
+
+        private final AtomicBoolean mDirty = new AtomicBoolean(true);
+        private final AtomicBoolean mRunning = new AtomicBoolean(false);
+        private final AtomicBoolean mCanceled = new AtomicBoolean(false);
+        private final AtomicReference<Cancelable> mSubscription = new AtomicReference<>();
+
+        @SuppressWarnings("unchecked")
+        private Watch(@NonNull final android.orm.sql.Expression<V> expression,
+                      @NonNull final Result.Callback<? super V> callback) {
+            super();
+
+            mExpression = expression;
+            mCallback = (Result.Callback<V>) callback;
+        }
+
+        public final void start(@NonNull final Cancelable subscription) {
+            mSubscription.set(subscription);
+            if (mCanceled.get()) {
+                subscription.cancel();
+            } else {
+                schedule();
+            }
+        }
+
+        @Override
+        public final void onChange() {
+            mDirty.set(true);
+            schedule();
+        }
+
+        @NonNull
+        @Override
+        public final Maybe<V> run() {
+            mDirty.set(false);
+            return mDirectDAO.execute(mExpression);
+        }
+
+        @Override
+        public final void cancel() {
+            if (!mCanceled.getAndSet(true)) {
+                final Cancelable subscription = mSubscription.getAndSet(null);
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+            }
+        }
+
+        private void schedule() {
+            if (!mCanceled.get() && mDirty.get() && mRunning.compareAndSet(false, true)) {
+                final Result<V> result = (mExpression instanceof android.orm.sql.Expression.ReadOnly) ?
+                        mExecutionContext.execute(this) :
+                        mExecutionContext.write(this);
+                result.onComplete(new Result.Callback<V>() {
+                    @Override
+                    public void onResult(@NonNull final Maybe<V> value) {
+                        if (!mCanceled.get()) {
+                            mCallback.onResult(value);
+                        }
+                    }
+                });
+                result.getFuture().onComplete(new Future.Callback<Maybe<V>>() {
+
+                    @Override
+                    public void onResult(@NonNull final Maybe<V> value) {
+                        finish();
+                    }
+
+                    @Override
+                    public void onError(@NonNull final Throwable error) {
+                        finish();
+                    }
+                });
+            }
+        }
+
+        private void finish() {
+            mRunning.set(false);
+            schedule();
+        }
     }
 
     private static final class Task {
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.dao;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.orm.util.Cancelable;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Log;
+
+import org.jetbrains.annotations.NonNls;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Collections.unmodifiableSet;
+
+public class Changes {
+
+    private static final String TAG = Changes.class.getSimpleName();
+
+    private static final Lock sLock = new ReentrantLock();
+    private static final Map<SQLiteDatabase, Changes> sBuses = new WeakHashMap<>();
+
+    private final Lock mLock = new ReentrantLock();
+    private final List<Subscription> mSubscriptions = new CopyOnWriteArrayList<>();
+    private final Set<String> mPending = new HashSet<>();
+    private boolean mAllPending = false;
+
+    public Changes() {
+        super();
+    }
+
+    public final void attach(@NonNull final SQLiteDatabase database) {
+        sLock.lock();
+        try {
+            sBuses.put(database, this);
+        } finally {
+            sLock.unlock();
+        }
+    }
+
+    @NonNull
+    public final Cancelable subscribe(@NonNls @NonNull final Collection<String> tables,
+                                      @NonNull final Listener listener) {
+        final Subscription subscription = new Subscription(tables, listener);
+        mSubscriptions.add(subscription);
+        return subscription;
+    }
+
+    @Nullable
+    public static Changes get(@NonNull final SQLiteDatabase database) {
+        sLock.lock();
+        try {
+            return sBuses.get(database);
+        } finally {
+            sLock.unlock();
+        }
+    }
+
+    public static void changed(@NonNull final SQLiteDatabase database,
+                               @NonNls @NonNull final String table) {
+        ResultCache.invalidate(database, table);
+
+        final Changes changes = get(database);
+        if (changes != null) {
+            changes.record(table);
+            if (!database.inTransaction()) {
+                changes.publish();
+            }
+        }
+    }
+
+    public static void changed(@NonNull final SQLiteDatabase database) {
+        ResultCache.invalidate(database);
+
+        final Changes changes = get(database);
+        if (changes != null) {
+            changes.recordAll();
+            if (!database.inTransaction()) {
+                changes.publish();
+            }
+        }
+    }
+
+    public static void commit(@NonNull final SQLiteDatabase database) {
+        ResultCache.commit(database);
+
+        final Changes changes = get(database);
+        if ((changes != null) && !database.inTransaction()) {
+            changes.publish();
+        }
+    }
+
+    public static void rollback(@NonNull final SQLiteDatabase database) {
+        ResultCache.commit(database);
+
+        final Changes changes = get(database);
+        if (changes != null) {
+            changes.discard();
+        }
+    }
+
+    private void record(@NonNls @NonNull final String table) {
+        mLock.lock();
+        try {
+            mPending.add(table);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    private void recordAll() {
+        mLock.lock();
+        try {
+            mAllPending = true;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    private void discard() {
+        mLock.lock();
+        try {
+            mPending.clear();
+            mAllPending = false;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    private void publish() {
+        final Set<String> tables;
+        final boolean all;
+
+        mLock.lock();
+        try {
+            all = mAllPending;
+            tables = new HashSet<>(mPending);
+            mPending.clear();
+            mAllPending = false;
+        } finally {
+            mLock.unlock();
+        }
+
+        if (all || !tables.isEmpty()) {
+            for (final Subscription subscription : mSubscriptions) {
+                if (all || subscription.isInterestedIn(tables)) {
+                    subscription.notifyListener();
+                }
+            }
+        }
+    }
+
+    public interface Listener {
+        void onChange();
+    }
+
+    private class Subscription implements Cancelable {
+
+        @NonNls
+        @NonNull
+        private final Set<String> mTables;
+        @NonNull
+        private final Listener mListener;
+
+        private Subscription(@NonNls @NonNull final Collection<String> tables,
+                             @NonNull final Listener listener) {
+            super();
+
+            mTables = unmodifiableSet(new HashSet<>(tables));
+            mListener = listener;
+        }
+
+        @Override
+        public final void cancel() {
+            mSubscriptions.remove(this);
+        }
+
+        private boolean isInterestedIn(@NonNls @NonNull final Set<String> tables) {
+            boolean result = false;
+
+            for (final String table : mTables) {
+                if (tables.contains(table)) {
+                    result = true;
+                    break;
+                }
+            }
+
+            return result;
+        }
+
+        private void notifyListener() {
+            try {
+                mListener.onChange();
+            } catch (final Throwable cause) {
+                Log.e(TAG, "Change listener failed", cause); //NON-NLS
+            }
+        }
+    }
+}
@@ -88,6 +88,7 @@ public abstract class Direct implements DAO.Direct {
         public final void execute(@NonNull final Statement statement) {
             interruptIfNecessary();
             statement.execute(mDatabase);
+            Changes.changed(mDatabase);
         }
 
         @NonNull
@@ -128,6 +129,7 @@ public abstract class Direct implements DAO.Direct {
 
         @NonNull
         private final Database.Helper mHelper;
+        private final ThreadLocal<InsideTransaction> mTransaction = new ThreadLocal<>();
 
         public OutsideTransaction(@NonNull final Context context,
                                   @NonNull final Database database) {
@@ -136,33 +138,60 @@ public abstract class Direct implements DAO.Direct {
             mHelper = database.getHelper(context);
         }
 
+        @NonNull
+        public final Changes getChanges() {
+            return mHelper.getChanges();
+        }
+
         @Override
         public final void execute(@NonNull final Statement statement) {
-            mHelper.execute(statement);
+            final InsideTransaction current = mTransaction.get();
+            if (current == null) {
+                mHelper.execute(statement);
+            } else {
+                current.execute(statement);
+            }
         }
 
         @NonNull
         @Override
         public final <V> Maybe<V> execute(@NonNull final Expression<V> expression) {
-            return mHelper.execute(expression);
+            final InsideTransaction current = mTransaction.get();
+            return (current == null) ? mHelper.execute(expression) : current.execute(expression);
         }
 
         @NonNull
         @Override
         public final <V> Maybe<V> execute(@NonNull final Transaction.Direct<V> transaction) {
+            final InsideTransaction current = mTransaction.get();
+            return (current == null) ? begin(transaction) : current.execute(transaction);
+        }
+
+        @NonNull
+        private <V> Maybe<V> begin(@NonNull final Transaction.Direct<V> transaction) {
             Maybe<V> result = nothing();
 
             final SQLiteDatabase database = mHelper.getWritableDatabase();
+            final InsideTransaction inside = new InsideTransaction(database);
+            boolean successful = false;
             database.beginTransaction();
+            mTransaction.set(inside);
             try {
-                result = transaction.run(new InsideTransaction(database));
+                result = transaction.run(inside);
                 database.setTransactionSuccessful();
+                successful = true;
             } catch (final Transaction.Rollback ignored) {
                 if (Log.isLoggable(TAG, INFO)) {
                     Log.i(TAG, "Transaction has been rolled back"); //NON-NLS
                 }
             } finally {
+                mTransaction.remove();
                 database.endTransaction();
+                if (successful) {
+                    Changes.commit(database);
+                } else {
+                    Changes.rollback(database);
+                }
             }
 
             return result;
@@ -43,6 +43,9 @@ public interface Executor<E, I, U, D> {
 
     interface Direct<I, U> extends Executor<Maybe<Boolean>, Maybe<I>, Maybe<U>, Maybe<Integer>> {
 
+        @NonNull
+        Maybe<Keys<I>> insertAll(@NonNull final Iterable<? extends Writer> writers, final int chunk);
+
         @NonNull
         <M> Maybe<Producer<Maybe<M>>> query(@NonNull final Reader.Collection<M> reader,
                                             @NonNull final Predicate predicate,
@@ -67,6 +70,9 @@ public interface Executor<E, I, U, D> {
 
     interface Async<I, U> extends Executor<Result<Boolean>, Result<I>, Result<U>, Result<Integer>> {
 
+        @NonNull
+        Result<Keys<I>> insertAll(@NonNull final Iterable<? extends Writer> writers, final int chunk);
+
         @NonNull
         <M> Result<Producer<Maybe<M>>> query(@NonNull final Reader.Collection<M> reader,
                                              @NonNull final Predicate predicate,
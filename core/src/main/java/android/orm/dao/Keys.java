@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.dao;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public abstract class Keys<K> extends AbstractList<K> {
+
+    private static final long[] NO_ROW_IDS = new long[0];
+
+    private Keys() {
+        super();
+    }
+
+    public abstract boolean hasRowIds();
+
+    @NonNull
+    public abstract long[] getRowIds();
+
+    @NonNull
+    public static <K> Keys<K> of(@NonNull final List<K> keys) {
+        return new Listed<>(new ArrayList<>(keys), null);
+    }
+
+    public static class Builder<K> {
+
+        private final boolean mKeyIsRowId;
+
+        @NonNull
+        private long[] mRowIds = NO_ROW_IDS;
+        @NonNull
+        private final List<K> mKeys = new ArrayList<>();
+        private int mSize = 0;
+
+        public Builder(final boolean keyIsRowId) {
+            super();
+
+            mKeyIsRowId = keyIsRowId;
+        }
+
+        public final void add(final long rowId, @Nullable final K key) {
+            if (mSize >= mRowIds.length) {
+                final long[] ids = new long[Math.max(16, mRowIds.length * 2)];
+                System.arraycopy(mRowIds, 0, ids, 0, mSize);
+                mRowIds = ids;
+            }
+            mRowIds[mSize] = rowId;
+            mSize++;
+
+            if (!mKeyIsRowId) {
+                mKeys.add(key);
+            }
+        }
+
+        public final boolean isKeyRowId() {
+            return mKeyIsRowId;
+        }
+
+        public final int size() {
+            return mSize;
+        }
+
+        @NonNull
+        public final Keys<K> build() {
+            final long[] ids = new long[mSize];
+            System.arraycopy(mRowIds, 0, ids, 0, mSize);
+            return mKeyIsRowId ? new RowIds<K>(ids) : new Listed<>(new ArrayList<>(mKeys), ids);
+        }
+    }
+
+    private static class RowIds<K> extends Keys<K> {
+
+        @NonNull
+        private final long[] mRowIds;
+
+        private RowIds(@NonNull final long[] ids) {
+            super();
+
+            mRowIds = ids;
+        }
+
+        @Override
+        public final boolean hasRowIds() {
+            return true;
+        }
+
+        @NonNull
+        @Override
+        public final long[] getRowIds() {
+            return mRowIds.clone();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public final K get(final int index) {
+            return (K) Long.valueOf(mRowIds[index]);
+        }
+
+        @Override
+        public final int size() {
+            return mRowIds.length;
+        }
+    }
+
+    private static class Listed<K> extends Keys<K> {
+
+        @NonNull
+        private final List<K> mKeys;
+        @Nullable
+        private final long[] mRowIds;
+
+        private Listed(@NonNull final List<K> keys, @Nullable final long[] ids) {
+            super();
+
+            mKeys = Collections.unmodifiableList(keys);
+            mRowIds = ids;
+        }
+
+        @Override
+        public final boolean hasRowIds() {
+            return mRowIds != null;
+        }
+
+        @NonNull
+        @Override
+        public final long[] getRowIds() {
+            return (mRowIds == null) ? NO_ROW_IDS : mRowIds.clone();
+        }
+
+        @Override
+        public final K get(final int index) {
+            return mKeys.get(index);
+        }
+
+        @Override
+        public final int size() {
+            return mKeys.size();
+        }
+    }
+}
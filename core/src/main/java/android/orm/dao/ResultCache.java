@@ -0,0 +1,601 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.dao;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.MatrixCursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import org.jetbrains.annotations.NonNls;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static android.orm.sql.Helper.escape;
+
+public class ResultCache {
+
+    public static final int DEFAULT_MAX_SIZE = 50;
+
+    @NonNls
+    private static final String SCHEMA = "select type, name, tbl_name, sql from sqlite_master where type in ('table', 'view', 'trigger');";
+    @NonNls
+    private static final String FOREIGN_KEYS = "pragma foreign_key_list(";
+    @NonNls
+    private static final String PARENT = "table";
+
+    private static final Lock sLock = new ReentrantLock();
+    private static final Map<SQLiteDatabase, ResultCache> sResults = new WeakHashMap<>();
+    private static final Map<SQLiteDatabase, ResultCache> sRows = new WeakHashMap<>();
+
+    private final int mMaxSize;
+
+    private final Lock mLock = new ReentrantLock();
+    private final Map<Key, Entry> mEntries;
+    private final Map<String, Long> mTables = new HashMap<>();
+    private final Set<String> mDirty = new HashSet<>();
+    @Nullable
+    private SQLiteDatabase mDatabase;
+    @NonNull
+    private Map<String, Set<String>> mDependents = Collections.emptyMap();
+    private boolean mAllDirty = false;
+    private long mClock = 0;
+    private long mAll = 0;
+    private long mHits = 0;
+    private long mMisses = 0;
+    private long mEvictions = 0;
+
+    public ResultCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ResultCache(final int maxSize) {
+        super();
+
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+
+        mMaxSize = maxSize;
+        mEntries = new LinkedHashMap<Key, Entry>(maxSize, 0.75F, true) {
+
+            private static final long serialVersionUID = -4125487102764862541L;
+
+            @Override
+            protected boolean removeEldestEntry(@NonNull final Map.Entry<Key, Entry> eldest) {
+                final boolean remove = size() > mMaxSize;
+                if (remove) {
+                    mEvictions++;
+                }
+                return remove;
+            }
+        };
+    }
+
+    public final int getMaxSize() {
+        return mMaxSize;
+    }
+
+    public final int getSize() {
+        mLock.lock();
+        try {
+            return mEntries.size();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public final long getHits() {
+        mLock.lock();
+        try {
+            return mHits;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public final long getMisses() {
+        mLock.lock();
+        try {
+            return mMisses;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public final long getEvictions() {
+        mLock.lock();
+        try {
+            return mEvictions;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public final void attach(@NonNull final SQLiteDatabase database) {
+        attach(database, sResults);
+    }
+
+    public final void attachRows(@NonNull final SQLiteDatabase database) {
+        attach(database, sRows);
+    }
+
+    public final void clear() {
+        mLock.lock();
+        try {
+            mEntries.clear();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Nullable
+    public static ResultCache get(@NonNull final SQLiteDatabase database) {
+        sLock.lock();
+        try {
+            return sResults.get(database);
+        } finally {
+            sLock.unlock();
+        }
+    }
+
+    @Nullable
+    public static ResultCache getRows(@NonNull final SQLiteDatabase database) {
+        sLock.lock();
+        try {
+            return sRows.get(database);
+        } finally {
+            sLock.unlock();
+        }
+    }
+
+    public static void invalidate(@NonNull final SQLiteDatabase database,
+                                  @NonNls @NonNull final String table) {
+        final ResultCache results = get(database);
+        if (results != null) {
+            results.mark(database, table);
+        }
+
+        final ResultCache rows = getRows(database);
+        if (rows != null) {
+            rows.mark(database, table);
+        }
+    }
+
+    public static void invalidate(@NonNull final SQLiteDatabase database) {
+        final ResultCache results = get(database);
+        if (results != null) {
+            results.mark(database, null);
+        }
+
+        final ResultCache rows = getRows(database);
+        if (rows != null) {
+            rows.mark(database, null);
+        }
+    }
+
+    public static void commit(@NonNull final SQLiteDatabase database) {
+        final ResultCache results = get(database);
+        if (results != null) {
+            results.commit();
+        }
+
+        final ResultCache rows = getRows(database);
+        if (rows != null) {
+            rows.commit();
+        }
+    }
+
+    public final long stamp() {
+        mLock.lock();
+        try {
+            return mClock;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Nullable
+    public final Rows get(@NonNull final Key key) {
+        return (Rows) find(key);
+    }
+
+    public final void put(@NonNull final Key key, final long stamp, @NonNull final Rows rows) {
+        mLock.lock();
+        try {
+            if (isWritable(key.mTable, stamp)) {
+                mEntries.put(key, new Entry(stamp, rows));
+            }
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Nullable
+    public final ContentValues getRow(@NonNull final Key key) {
+        return (ContentValues) find(key);
+    }
+
+    public final void putRow(@NonNull final Key key, final long stamp, @NonNull final ContentValues row) {
+        mLock.lock();
+        try {
+            if (isWritable(key.mTable, stamp)) {
+                final Entry previous = mEntries.get(key);
+                final ContentValues merged;
+                if ((previous == null) || !isValid(key.mTable, previous.mStamp)) {
+                    merged = row;
+                } else {
+                    merged = new ContentValues((ContentValues) previous.mValue);
+                    merged.putAll(row);
+                }
+                mEntries.put(key, new Entry(stamp, merged));
+            }
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    private void attach(@NonNull final SQLiteDatabase database,
+                        @NonNull final Map<SQLiteDatabase, ResultCache> registry) {
+        final Map<String, Set<String>> dependents = dependents(database);
+
+        mLock.lock();
+        try {
+            if (mDatabase != database) {
+                mEntries.clear();
+                mDatabase = database;
+            }
+            mDependents = dependents;
+        } finally {
+            mLock.unlock();
+        }
+
+        sLock.lock();
+        try {
+            registry.put(database, this);
+        } finally {
+            sLock.unlock();
+        }
+    }
+
+    @Nullable
+    private Object find(@NonNull final Key key) {
+        Object result = null;
+
+        mLock.lock();
+        try {
+            final Entry entry = mEntries.get(key);
+            if ((entry != null) && isValid(key.mTable, entry.mStamp)) {
+                result = entry.mValue;
+                mHits++;
+            } else {
+                if (entry != null) {
+                    mEntries.remove(key);
+                }
+                mMisses++;
+            }
+        } finally {
+            mLock.unlock();
+        }
+
+        return result;
+    }
+
+    private void mark(@NonNull final SQLiteDatabase database,
+                      @NonNls @Nullable final String table) {
+        /* statements may change the schema, so look for triggers, views and foreign keys again */
+        final Map<String, Set<String>> dependents = (table == null) ? dependents(database) : null;
+
+        mLock.lock();
+        try {
+            mClock++;
+            if (table == null) {
+                mDependents = dependents;
+                mAll = mClock;
+                mAllDirty = true;
+            } else {
+                mTables.put(table, mClock);
+                mDirty.add(table);
+                final Set<String> others = mDependents.get(table);
+                if (others != null) {
+                    for (final String other : others) {
+                        mTables.put(other, mClock);
+                        mDirty.add(other);
+                    }
+                }
+            }
+        } finally {
+            mLock.unlock();
+        }
+
+        if (!database.inTransaction()) {
+            commit();
+        }
+    }
+
+    private void commit() {
+        mLock.lock();
+        try {
+            if (mAllDirty || !mDirty.isEmpty()) {
+                mClock++;
+                if (mAllDirty) {
+                    mAll = mClock;
+                }
+                for (final String table : mDirty) {
+                    mTables.put(table, mClock);
+                }
+                mDirty.clear();
+                mAllDirty = false;
+            }
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    private boolean isWritable(@NonNls @NonNull final String table, final long stamp) {
+        return !mAllDirty && !mDirty.contains(table) && isValid(table, stamp);
+    }
+
+    private boolean isValid(@NonNls @NonNull final String table, final long stamp) {
+        final Long changed = mTables.get(table);
+        return (mAll <= stamp) && ((changed == null) || (changed <= stamp));
+    }
+
+    @NonNull
+    private static Map<String, Set<String>> dependents(@NonNull final SQLiteDatabase database) {
+        final Map<String, Set<String>> direct = new HashMap<>();
+        final Map<String, String> tables = new HashMap<>();
+        final Map<String, String> views = new HashMap<>();
+        final Map<String, String> triggers = new HashMap<>();
+
+        final Cursor schema = database.rawQuery(SCHEMA, null);
+        try {
+            while (schema.moveToNext()) {
+                @NonNls final String type = schema.getString(0);
+                @NonNls final String name = schema.getString(1);
+                @NonNls final String sql = schema.isNull(3) ? "" : schema.getString(3).toLowerCase(Locale.US);
+                if ("table".equals(type)) {
+                    tables.put(name, sql);
+                } else if ("view".equals(type)) {
+                    views.put(name, sql);
+                } else {
+                    @NonNls final String table = schema.getString(2);
+                    final String previous = triggers.get(table);
+                    triggers.put(table, (previous == null) ? sql : (previous + ' ' + sql));
+                }
+            }
+        } finally {
+            schema.close();
+        }
+
+        /* foreign key actions may change the child when the parent changes */
+        for (final String child : tables.keySet()) {
+            final Cursor keys = database.rawQuery(FOREIGN_KEYS + escape(child) + ");", null);
+            try {
+                final int parent = keys.getColumnIndex(PARENT);
+                while ((parent >= 0) && keys.moveToNext()) {
+                    depend(direct, keys.getString(parent), child);
+                }
+            } finally {
+                keys.close();
+            }
+        }
+
+        /* a trigger may write any table it mentions, a view reads every table it mentions */
+        final Set<String> names = new HashSet<>(tables.keySet());
+        names.addAll(views.keySet());
+        for (final Map.Entry<String, String> trigger : triggers.entrySet()) {
+            for (final String name : names) {
+                if (trigger.getValue().contains(name.toLowerCase(Locale.US))) {
+                    depend(direct, trigger.getKey(), name);
+                }
+            }
+        }
+        for (final Map.Entry<String, String> view : views.entrySet()) {
+            for (final String name : names) {
+                if (view.getValue().contains(name.toLowerCase(Locale.US))) {
+                    depend(direct, name, view.getKey());
+                }
+            }
+        }
+
+        final Map<String, Set<String>> result = new HashMap<>(direct.size());
+        for (final String table : direct.keySet()) {
+            final Set<String> reached = new HashSet<>();
+            final List<String> pending = new ArrayList<>(direct.get(table));
+            while (!pending.isEmpty()) {
+                final String next = pending.remove(pending.size() - 1);
+                if (!next.equals(table) && reached.add(next)) {
+                    final Set<String> further = direct.get(next);
+                    if (further != null) {
+                        pending.addAll(further);
+                    }
+                }
+            }
+            if (!reached.isEmpty()) {
+                result.put(table, reached);
+            }
+        }
+
+        return result;
+    }
+
+    private static void depend(@NonNull final Map<String, Set<String>> dependents,
+                               @NonNls @NonNull final String table,
+                               @NonNls @NonNull final String dependent) {
+        Set<String> set = dependents.get(table);
+        if (set == null) {
+            set = new HashSet<>();
+            dependents.put(table, set);
+        }
+        set.add(dependent);
+    }
+
+    private static class Entry {
+
+        private final long mStamp;
+        @NonNull
+        private final Object mValue;
+
+        private Entry(final long stamp, @NonNull final Object value) {
+            super();
+
+            mStamp = stamp;
+            mValue = value;
+        }
+    }
+
+    public static final class Rows {
+
+        @NonNull
+        private final String[] mColumns;
+        private final List<Object[]> mRows = new ArrayList<>();
+
+        public Rows(@NonNull final String... columns) {
+            super();
+
+            mColumns = columns;
+        }
+
+        public final int size() {
+            return mRows.size();
+        }
+
+        public final void add(@NonNull final Object... row) {
+            mRows.add(row);
+        }
+
+        @NonNull
+        public final Cursor cursor() {
+            final int length = mColumns.length;
+            final MatrixCursor result = new MatrixCursor(mColumns, mRows.size());
+
+            for (final Object[] row : mRows) {
+                final Object[] copy = new Object[length];
+                for (int i = 0; i < length; i++) {
+                    final Object value = row[i];
+                    if (value instanceof byte[]) {
+                        final byte[] blob = (byte[]) value;
+                        final byte[] blobCopy = new byte[blob.length];
+                        System.arraycopy(blob, 0, blobCopy, 0, blob.length);
+                        copy[i] = blobCopy;
+                    } else {
+                        copy[i] = value;
+                    }
+                }
+                result.addRow(copy);
+            }
+
+            return result;
+        }
+    }
+
+    public static final class Key {
+
+        @NonNls
+        @NonNull
+        private final String mTable;
+        @NonNls
+        @NonNull
+        private final String mSQL;
+        @NonNull
+        private final Object[] mArguments;
+        private final int mHashCode;
+
+        public Key(@NonNls @NonNull final String table,
+                   @NonNls @NonNull final String sql,
+                   @NonNull final Object[] arguments) {
+            super();
+
+            mTable = table;
+            mSQL = sql;
+            mArguments = arguments;
+
+            int hashCode = table.hashCode();
+            hashCode = (31 * hashCode) + sql.hashCode();
+            hashCode = (31 * hashCode) + Arrays.deepHashCode(arguments);
+            mHashCode = hashCode;
+        }
+
+        @Nullable
+        public static Key row(@NonNls @NonNull final String table, @NonNull final ContentValues key) {
+            Key result = null;
+
+            final List<String> columns = new ArrayList<>(key.size());
+            for (final Map.Entry<String, Object> entry : key.valueSet()) {
+                columns.add(entry.getKey());
+            }
+
+            if (!columns.isEmpty()) {
+                final String[] names = columns.toArray(new String[columns.size()]);
+                Arrays.sort(names);
+
+                final StringBuilder sql = new StringBuilder();
+                final Object[] values = new Object[names.length];
+                boolean complete = true;
+                for (int i = 0; i < names.length; i++) {
+                    if (i > 0) {
+                        sql.append(',');
+                    }
+                    sql.append(names[i]);
+                    values[i] = key.get(names[i]);
+                    complete = complete && (values[i] != null);
+                }
+
+                if (complete) {
+                    result = new Key(table, sql.toString(), values);
+                }
+            }
+
+            return result;
+        }
+
+        @Override
+        public final boolean equals(@Nullable final Object object) {
+            boolean result = this == object;
+
+            if (!result && (object != null) && (getClass() == object.getClass())) {
+                final Key other = (Key) object;
+                result = (mHashCode == other.mHashCode) &&
+                        mTable.equals(other.mTable) &&
+                        mSQL.equals(other.mSQL) &&
+                        Arrays.deepEquals(mArguments, other.mArguments);
+            }
+
+            return result;
+        }
+
+        @Override
+        public final int hashCode() {
+            return mHashCode;
+        }
+    }
+}
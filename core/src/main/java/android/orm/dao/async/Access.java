@@ -18,12 +18,16 @@ package android.orm.dao.async;
 
 import android.orm.Model;
 import android.orm.dao.Executor;
+import android.orm.dao.Keys;
 import android.orm.dao.Result;
 import android.orm.model.Instance;
+import android.orm.model.Mapper;
 import android.orm.model.Observer;
 import android.orm.model.Plan;
 import android.orm.sql.Reader;
 import android.orm.sql.Readers;
+import android.orm.sql.Value;
+import android.orm.sql.Writer;
 import android.orm.sql.fragment.Limit;
 import android.orm.sql.fragment.Predicate;
 import android.orm.util.Consumer;
@@ -34,6 +38,9 @@ import android.orm.util.Producer;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import static android.orm.dao.Access.DEFAULT_CHUNK_SIZE;
+import static android.orm.dao.Access.afterInsertAll;
+import static android.orm.dao.Access.writers;
 import static android.orm.dao.direct.Query.afterRead;
 import static android.orm.model.Observer.beforeRead;
 
@@ -71,6 +78,36 @@ public final class Access {
             return new Query.Builder.Single(mExecutor);
         }
 
+        @NonNull
+        @Override
+        public final <M> Result<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                   @NonNull final Value.Write<M> value) {
+            return insertAll(models, value, DEFAULT_CHUNK_SIZE);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Result<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                   @NonNull final Value.Write<M> value,
+                                                   final int chunk) {
+            return Access.insertAll(mExecutor, models, writers(models, value), chunk);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Result<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                   @NonNull final Mapper.Write<M> mapper) {
+            return insertAll(models, mapper, DEFAULT_CHUNK_SIZE);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Result<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                   @NonNull final Mapper.Write<M> mapper,
+                                                   final int chunk) {
+            return Access.insertAll(mExecutor, models, writers(models, mapper), chunk);
+        }
+
         @Override
         protected final Result<K> afterInsert(@Nullable final Object model,
                                               @NonNull final Result<K> result) {
@@ -119,6 +156,36 @@ public final class Access {
             return new Query.Builder.Many(mExecutor);
         }
 
+        @NonNull
+        @Override
+        public final <M> Result<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                   @NonNull final Value.Write<M> value) {
+            return insertAll(models, value, DEFAULT_CHUNK_SIZE);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Result<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                   @NonNull final Value.Write<M> value,
+                                                   final int chunk) {
+            return Access.insertAll(mExecutor, models, writers(models, value), chunk);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Result<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                   @NonNull final Mapper.Write<M> mapper) {
+            return insertAll(models, mapper, DEFAULT_CHUNK_SIZE);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Result<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                   @NonNull final Mapper.Write<M> mapper,
+                                                   final int chunk) {
+            return Access.insertAll(mExecutor, models, writers(models, mapper), chunk);
+        }
+
         @Override
         protected final Result<K> afterInsert(@Nullable final Object model,
                                               @NonNull final Result<K> result) {
@@ -150,6 +217,21 @@ public final class Access {
         }
     }
 
+    @NonNull
+    private static <K> Result<Keys<K>> insertAll(@NonNull final Executor.Async<K, ?> executor,
+                                                 @NonNull final Iterable<?> models,
+                                                 @NonNull final Iterable<Writer> writers,
+                                                 final int chunk) {
+        return executor.insertAll(writers, chunk).onSomething(new Consumer<Keys<K>>() {
+            @Override
+            public void consume(@Nullable final Keys<K> keys) {
+                if (keys != null) {
+                    afterInsertAll(models, keys);
+                }
+            }
+        });
+    }
+
     private Access() {
         super();
     }
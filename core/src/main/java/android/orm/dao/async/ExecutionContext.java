@@ -37,19 +37,33 @@ public class ExecutionContext {
 
     @NonNull
     private final ExecutorService mExecutor;
+    @Nullable
+    private final GroupCommit mWriter;
 
     private final AtomicReference<ErrorHandler> mErrorHandler = new AtomicReference<>();
 
     public ExecutionContext(@NonNull final ExecutorService executor) {
+        this(executor, null);
+    }
+
+    public ExecutionContext(@NonNull final ExecutorService executor,
+                            @Nullable final GroupCommit writer) {
         super();
 
         mExecutor = executor;
+        mWriter = writer;
     }
 
     public final void setErrorHandler(@Nullable final ErrorHandler handler) {
         mErrorHandler.set(handler);
     }
 
+    public final void shutdown() {
+        if (mWriter != null) {
+            mWriter.shutdown();
+        }
+    }
+
     @NonNull
     public final <V> Result<V> execute(@NonNull final Task<V> task) {
         final Runnable runnable = Runnable.Pool.borrow();
@@ -58,6 +72,21 @@ public class ExecutionContext {
         return new Result<>(promise.getFuture(), cancelable, mErrorHandler.get());
     }
 
+    @NonNull
+    public final <V> Result<V> write(@NonNull final Task<V> task) {
+        final Result<V> result;
+
+        if (mWriter == null) {
+            result = execute(task);
+        } else {
+            final Promise<Maybe<V>> promise = new Promise<>();
+            final Cancelable cancelable = mWriter.submit(task, promise);
+            result = new Result<>(promise.getFuture(), cancelable, mErrorHandler.get());
+        }
+
+        return result;
+    }
+
     @NonNull
     private static Cancelable cancelable(@NonNull final Future<?> future) {
         return new Cancelable() {
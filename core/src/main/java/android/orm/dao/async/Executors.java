@@ -17,6 +17,7 @@
 package android.orm.dao.async;
 
 import android.orm.dao.Executor;
+import android.orm.dao.Keys;
 import android.orm.dao.Result;
 import android.orm.sql.Reader;
 import android.orm.sql.Writer;
@@ -99,7 +100,17 @@ public final class Executors {
         public final Result<I> insert(@NonNull final Writer writer) {
             final Insert insert = Insert.Pool.borrow();
             insert.init(mDirect, writer);
-            return (Result<I>) (Object) mExecutionContext.execute(insert);
+            return (Result<I>) (Object) mExecutionContext.write(insert);
+        }
+
+        @NonNull
+        @Override
+        @SuppressWarnings("unchecked")
+        public final Result<Keys<I>> insertAll(@NonNull final Iterable<? extends Writer> writers,
+                                               final int chunk) {
+            final InsertAll insert = InsertAll.Pool.borrow();
+            insert.init(mDirect, writers, chunk);
+            return (Result<Keys<I>>) (Object) mExecutionContext.write(insert);
         }
 
         @NonNull
@@ -107,7 +118,7 @@ public final class Executors {
         public final Result<Integer> delete(@NonNull final Predicate predicate) {
             final Delete delete = Delete.Pool.borrow();
             delete.init(mDirect, predicate);
-            return mExecutionContext.execute(delete);
+            return mExecutionContext.write(delete);
         }
 
         @NonNull
@@ -117,7 +128,7 @@ public final class Executors {
                                       @NonNull final Writer writer) {
             final Update update = Update.Pool.borrow();
             update.init(mDirect, predicate, writer);
-            return (Result<U>) (Object) mExecutionContext.execute(update);
+            return (Result<U>) (Object) mExecutionContext.write(update);
         }
     }
 
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.dao.async;
+
+import android.orm.DAO;
+import android.orm.dao.Transaction;
+import android.orm.util.Cancelable;
+import android.orm.util.Maybe;
+import android.orm.util.Promise;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Log;
+
+import org.jetbrains.annotations.NonNls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static android.orm.util.Maybes.nothing;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+public class GroupCommit {
+
+    public static final long DEFAULT_WINDOW = 2L; /* milliseconds */
+    public static final int DEFAULT_MAX_SIZE = 64;
+
+    private static final String TAG = GroupCommit.class.getSimpleName();
+    @NonNls
+    private static final String CANCELED = "Write was canceled";
+    @NonNls
+    private static final String SHUT_DOWN = "Group commit has been shut down";
+
+    @NonNull
+    private final DAO.Direct mDAO;
+    private final long mWindow;
+    private final int mMaxSize;
+
+    private final BlockingQueue<Entry<?>> mQueue = new LinkedBlockingQueue<>();
+    private final AtomicReference<Thread> mThread = new AtomicReference<>();
+    private final AtomicBoolean mShutdown = new AtomicBoolean();
+
+    public GroupCommit(@NonNull final DAO.Direct dao) {
+        this(dao, DEFAULT_WINDOW, DEFAULT_MAX_SIZE);
+    }
+
+    public GroupCommit(@NonNull final DAO.Direct dao, final long window, final int maxSize) {
+        super();
+
+        if (window < 0L) {
+            throw new IllegalArgumentException("Window cannot be negative");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+
+        mDAO = dao;
+        mWindow = MILLISECONDS.toNanos(window);
+        mMaxSize = maxSize;
+    }
+
+    public final void shutdown() {
+        if (mShutdown.compareAndSet(false, true)) {
+            final Thread current = mThread.getAndSet(null);
+            if (current != null) {
+                current.interrupt();
+            }
+
+            final List<Entry<?>> pending = new ArrayList<>();
+            mQueue.drainTo(pending);
+            cancel(pending, SHUT_DOWN);
+        }
+    }
+
+    @NonNull
+    public final <V> Cancelable submit(@NonNull final ExecutionContext.Task<V> task,
+                                       @NonNull final Promise<Maybe<V>> promise) {
+        final Entry<V> entry = new Entry<>(task, promise);
+        mQueue.add(entry);
+        if (mShutdown.get()) {
+            if (mQueue.remove(entry)) {
+                entry.cancel(SHUT_DOWN);
+            }
+        } else {
+            start();
+        }
+
+        return new Cancelable() {
+            @Override
+            public void cancel() {
+                if (mQueue.remove(entry)) {
+                    entry.cancel(CANCELED);
+                }
+            }
+        };
+    }
+
+    private void start() {
+        if ((mThread.get() == null) && !mShutdown.get()) {
+            final Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    loop();
+                }
+            }, TAG);
+            thread.setDaemon(true);
+            if (mThread.compareAndSet(null, thread)) {
+                thread.start();
+            }
+        }
+    }
+
+    private void loop() {
+        final List<Entry<?>> group = new ArrayList<>(mMaxSize);
+
+        try {
+            while (mThread.get() == Thread.currentThread()) {
+                group.add(mQueue.take());
+
+                final long deadline = System.nanoTime() + mWindow;
+                Entry<?> next = null;
+                do {
+                    if (next != null) {
+                        group.add(next);
+                    }
+                    final long remaining = deadline - System.nanoTime();
+                    next = (group.size() < mMaxSize) ?
+                            ((remaining > 0L) ? mQueue.poll(remaining, NANOSECONDS) : mQueue.poll()) :
+                            null;
+                } while (next != null);
+
+                commit(group);
+                group.clear();
+            }
+        } catch (final InterruptedException ignored) {
+            cancel(group, SHUT_DOWN);
+            if (Log.isLoggable(TAG, Log.INFO)) {
+                Log.i(TAG, "Group commit has been stopped"); //NON-NLS
+            }
+        }
+    }
+
+    private void commit(@NonNull final List<Entry<?>> group) {
+        Throwable failure = null;
+
+        try {
+            mDAO.execute(new Transaction.Direct<Void>() {
+                @NonNull
+                @Override
+                public Maybe<Void> run(@NonNull final DAO.Direct dao) {
+                    for (final Entry<?> entry : group) {
+                        dao.execute(entry);
+                    }
+                    return nothing();
+                }
+            });
+        } catch (final Throwable error) {
+            Log.e(TAG, "Group commit has been aborted", error); //NON-NLS
+            failure = error;
+        }
+
+        for (final Entry<?> entry : group) {
+            entry.complete(failure);
+        }
+    }
+
+    private static void cancel(@NonNull final List<Entry<?>> entries, @NonNls @NonNull final String reason) {
+        for (final Entry<?> entry : entries) {
+            entry.cancel(reason);
+        }
+    }
+
+    private static class Entry<V> implements Transaction.Direct<Void> {
+
+        @NonNull
+        private final ExecutionContext.Task<V> mTask;
+        @NonNull
+        private final Promise<Maybe<V>> mPromise;
+
+        @Nullable
+        private Maybe<V> mResult;
+        @Nullable
+        private Throwable mError;
+
+        private Entry(@NonNull final ExecutionContext.Task<V> task,
+                      @NonNull final Promise<Maybe<V>> promise) {
+            super();
+
+            mTask = task;
+            mPromise = promise;
+        }
+
+        @NonNull
+        @Override
+        public final Maybe<Void> run(@NonNull final DAO.Direct dao) throws Transaction.Rollback {
+            try {
+                mResult = mTask.run();
+            } catch (final RuntimeException error) {
+                Log.e(TAG, "Async task has been aborted", error); //NON-NLS
+                mError = error;
+                throw Rollback;
+            }
+
+            return nothing();
+        }
+
+        public final void cancel(@NonNls @NonNull final String reason) {
+            mPromise.failure(new CancellationException(reason));
+        }
+
+        public final void complete(@Nullable final Throwable failure) {
+            final Throwable error = (failure == null) ? mError : failure;
+            if (error == null) {
+                if (mResult != null) {
+                    mPromise.success(mResult);
+                }
+            } else {
+                mPromise.failure(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.dao.async;
+
+import android.orm.dao.Executor;
+import android.orm.dao.Keys;
+import android.orm.sql.Writer;
+import android.orm.util.Maybe;
+import android.orm.util.ObjectPool;
+import android.support.annotation.NonNull;
+
+public class InsertAll implements ExecutionContext.Task<Keys<Object>> {
+
+    public static final ObjectPool<InsertAll> Pool = new ObjectPool<InsertAll>() {
+        @NonNull
+        @Override
+        protected InsertAll produce(@NonNull final Receipt<InsertAll> receipt) {
+            return new InsertAll(receipt);
+        }
+    };
+
+    @NonNull
+    private final ObjectPool.Receipt<InsertAll> mReceipt;
+
+    private Executor.Direct<Object, ?> mDirect;
+    private Iterable<? extends Writer> mWriters;
+    private int mChunk;
+
+    private InsertAll(@NonNull final ObjectPool.Receipt<InsertAll> receipt) {
+        super();
+
+        mReceipt = receipt;
+    }
+
+    @SuppressWarnings("unchecked")
+    public final void init(@NonNull final Executor.Direct<?, ?> direct,
+                           @NonNull final Iterable<? extends Writer> writers,
+                           final int chunk) {
+        mDirect = (Executor.Direct<Object, ?>) direct;
+        mWriters = writers;
+        mChunk = chunk;
+    }
+
+    @NonNull
+    @Override
+    public final Maybe<Keys<Object>> run() {
+        final Maybe<Keys<Object>> result;
+
+        try {
+            result = mDirect.insertAll(mWriters, mChunk);
+        } finally {
+            mDirect = null;
+            mWriters = null;
+            mReceipt.yield();
+        }
+
+        return result;
+    }
+}
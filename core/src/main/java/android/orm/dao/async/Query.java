@@ -20,16 +20,20 @@ import android.orm.Access;
 import android.orm.dao.Executor;
 import android.orm.dao.Result;
 import android.orm.model.Mapper;
+import android.orm.model.Observer;
 import android.orm.model.Plan;
 import android.orm.model.Reading;
+import android.orm.model.Readings;
 import android.orm.sql.AggregateFunction;
 import android.orm.sql.Reader;
 import android.orm.sql.Readers;
 import android.orm.sql.Value;
+import android.orm.sql.fragment.Keyset;
 import android.orm.sql.fragment.Limit;
 import android.orm.sql.fragment.Offset;
 import android.orm.sql.fragment.Order;
 import android.orm.sql.fragment.Predicate;
+import android.orm.util.Consumer;
 import android.orm.util.Function;
 import android.orm.util.Maybe;
 import android.orm.util.ObjectPool;
@@ -43,6 +47,7 @@ import static android.orm.dao.direct.Query.afterRead;
 import static android.orm.model.Observer.beforeRead;
 import static android.orm.model.Readings.list;
 import static android.orm.model.Readings.single;
+import static android.orm.sql.Readers.chunks;
 
 public class Query implements ExecutionContext.Task<Producer<Maybe<Object>>> {
 
@@ -239,12 +244,56 @@ public class Query implements ExecutionContext.Task<Producer<Maybe<Object>>> {
                 return select(reading.prepareReader());
             }
 
+            @NonNull
+            @Override
+            public final <V> Result<Integer> stream(@NonNull final Value.Read<V> value,
+                                                    final int chunk,
+                                                    @NonNull final Consumer<List<V>> consumer) {
+                return select(chunks(value.getName(), Plan.Read.from(value), chunk, observed(consumer)));
+            }
+
+            @NonNull
+            @Override
+            public final <M> Result<Integer> stream(@NonNull final Mapper.Read<M> mapper,
+                                                    final int chunk,
+                                                    @NonNull final Consumer<List<M>> consumer) {
+                return select(chunks(mapper.getName(), mapper.prepareReader(), chunk, observed(consumer)));
+            }
+
+            @NonNull
+            @Override
+            public final <V> Result<Keyset.Page<V>> page(@NonNull final Keyset keyset,
+                                                    @Nullable final Keyset.Token after,
+                                                    final int size,
+                                                    @NonNull final Value.Read<V> value) {
+                return page(keyset, after, size, Readings.page(value, keyset, size));
+            }
+
+            @NonNull
+            @Override
+            public final <M> Result<Keyset.Page<M>> page(@NonNull final Keyset keyset,
+                                                    @Nullable final Keyset.Token after,
+                                                    final int size,
+                                                    @NonNull final Mapper.Read<M> mapper) {
+                return page(keyset, after, size, Readings.page(mapper, keyset, size));
+            }
+
             @NonNull
             @Override
             public final <V> Result<V> select(@NonNull final Reader.Collection<V> reader) {
                 final Function<Producer<Maybe<V>>, Maybe<V>> afterRead = afterRead();
                 return mExecutor.query(reader, mPredicate, mOrder, mLimit, mOffset).flatMap(afterRead);
             }
+
+            @NonNull
+            private <V> Result<V> page(@NonNull final Keyset keyset,
+                                       @Nullable final Keyset.Token after,
+                                       final int size,
+                                       @NonNull final Reading.Many<V> reading) {
+                final Predicate predicate = mPredicate.and(keyset.after(after));
+                final Function<Producer<Maybe<V>>, Maybe<V>> afterRead = afterRead();
+                return mExecutor.query(reading.prepareReader(), predicate, keyset.getOrder(), new Limit(size + 1), null).flatMap(afterRead);
+            }
         }
 
 
@@ -252,4 +301,15 @@ public class Query implements ExecutionContext.Task<Producer<Maybe<Object>>> {
             super();
         }
     }
+
+    @NonNull
+    private static <V> Consumer<List<V>> observed(@NonNull final Consumer<List<V>> consumer) {
+        return new Consumer<List<V>>() {
+            @Override
+            public void consume(@Nullable final List<V> chunk) {
+                Observer.afterRead(chunk);
+                consumer.consume(chunk);
+            }
+        };
+    }
 }
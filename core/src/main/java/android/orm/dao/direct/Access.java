@@ -18,11 +18,15 @@ package android.orm.dao.direct;
 
 import android.orm.Model;
 import android.orm.dao.Executor;
+import android.orm.dao.Keys;
 import android.orm.model.Instance;
+import android.orm.model.Mapper;
 import android.orm.model.Observer;
 import android.orm.model.Plan;
 import android.orm.sql.Reader;
 import android.orm.sql.Readers;
+import android.orm.sql.Value;
+import android.orm.sql.Writer;
 import android.orm.sql.fragment.Limit;
 import android.orm.sql.fragment.Predicate;
 import android.orm.util.Functions;
@@ -31,6 +35,9 @@ import android.orm.util.Producer;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import static android.orm.dao.Access.DEFAULT_CHUNK_SIZE;
+import static android.orm.dao.Access.afterInsertAll;
+import static android.orm.dao.Access.writers;
 import static android.orm.model.Observer.beforeRead;
 
 public final class Access {
@@ -67,6 +74,36 @@ public final class Access {
             return new Query.Builder.Single(mExecutor);
         }
 
+        @NonNull
+        @Override
+        public final <M> Maybe<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                  @NonNull final Value.Write<M> value) {
+            return insertAll(models, value, DEFAULT_CHUNK_SIZE);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Maybe<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                  @NonNull final Value.Write<M> value,
+                                                  final int chunk) {
+            return Access.insertAll(mExecutor, models, writers(models, value), chunk);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Maybe<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                  @NonNull final Mapper.Write<M> mapper) {
+            return insertAll(models, mapper, DEFAULT_CHUNK_SIZE);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Maybe<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                  @NonNull final Mapper.Write<M> mapper,
+                                                  final int chunk) {
+            return Access.insertAll(mExecutor, models, writers(models, mapper), chunk);
+        }
+
         @Override
         protected final Maybe<K> afterInsert(@Nullable final Object model,
                                              @NonNull final Maybe<K> result) {
@@ -105,6 +142,36 @@ public final class Access {
             return new Query.Builder.Many(mExecutor);
         }
 
+        @NonNull
+        @Override
+        public final <M> Maybe<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                  @NonNull final Value.Write<M> value) {
+            return insertAll(models, value, DEFAULT_CHUNK_SIZE);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Maybe<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                  @NonNull final Value.Write<M> value,
+                                                  final int chunk) {
+            return Access.insertAll(mExecutor, models, writers(models, value), chunk);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Maybe<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                  @NonNull final Mapper.Write<M> mapper) {
+            return insertAll(models, mapper, DEFAULT_CHUNK_SIZE);
+        }
+
+        @NonNull
+        @Override
+        public final <M> Maybe<Keys<K>> insertAll(@NonNull final Iterable<? extends M> models,
+                                                  @NonNull final Mapper.Write<M> mapper,
+                                                  final int chunk) {
+            return Access.insertAll(mExecutor, models, writers(models, mapper), chunk);
+        }
+
         @Override
         protected final Maybe<K> afterInsert(@Nullable final Object model,
                                              @NonNull final Maybe<K> result) {
@@ -129,6 +196,21 @@ public final class Access {
         }
     }
 
+    @NonNull
+    private static <K> Maybe<Keys<K>> insertAll(@NonNull final Executor.Direct<K, ?> executor,
+                                                @NonNull final Iterable<?> models,
+                                                @NonNull final Iterable<Writer> writers,
+                                                final int chunk) {
+        final Maybe<Keys<K>> result = executor.insertAll(writers, chunk);
+
+        final Keys<K> keys = result.getOrElse(null);
+        if (keys != null) {
+            afterInsertAll(models, keys);
+        }
+
+        return result;
+    }
+
     private Access() {
         super();
     }
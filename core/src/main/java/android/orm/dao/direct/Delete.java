@@ -17,6 +17,9 @@
 package android.orm.dao.direct;
 
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.orm.dao.Changes;
+import android.orm.database.StatementCache;
 import android.orm.sql.Expression;
 import android.orm.sql.fragment.Predicate;
 import android.orm.util.Maybe;
@@ -26,6 +29,12 @@ import android.support.annotation.NonNull;
 
 import org.jetbrains.annotations.NonNls;
 
+import static android.orm.database.StatementCache.bind;
+import static android.orm.database.StatementCache.borrow;
+import static android.orm.database.StatementCache.yield;
+import static android.os.Build.VERSION.SDK_INT;
+import static android.os.Build.VERSION_CODES.HONEYCOMB;
+
 public class Delete implements Expression<Integer> {
 
     public static final ObjectPool<Delete> Pool = new ObjectPool<Delete>() {
@@ -61,7 +70,7 @@ public class Delete implements Expression<Integer> {
         final int deleted;
 
         try {
-            deleted = database.delete(mTable, mPredicate.toSQL(), null);
+            deleted = delete(database, mTable, mPredicate);
         } finally {
             mTable = null;
             mPredicate = null;
@@ -70,4 +79,29 @@ public class Delete implements Expression<Integer> {
 
         return (deleted > 0) ? Maybes.something(deleted) : Maybes.<Integer>nothing();
     }
+
+    private static int delete(@NonNull final SQLiteDatabase database,
+                              @NonNls @NonNull final String table,
+                              @NonNull final Predicate predicate) {
+        final int deleted;
+
+        if (SDK_INT >= HONEYCOMB) {
+            final StatementCache.Key key = StatementCache.Key.delete(table, predicate);
+            final SQLiteStatement statement = borrow(database, key);
+            try {
+                bind(statement, 1, predicate);
+                deleted = statement.executeUpdateDelete();
+            } finally {
+                yield(database, key, statement);
+            }
+        } else {
+            deleted = database.delete(table, predicate.toSelection(), predicate.getSelectionArgs());
+        }
+
+        if (deleted > 0) {
+            Changes.changed(database, table);
+        }
+
+        return deleted;
+    }
 }
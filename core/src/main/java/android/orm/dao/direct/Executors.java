@@ -18,6 +18,7 @@ package android.orm.dao.direct;
 
 import android.content.ContentValues;
 import android.orm.dao.Executor;
+import android.orm.dao.Keys;
 import android.orm.sql.Reader;
 import android.orm.sql.Select;
 import android.orm.sql.Value;
@@ -33,8 +34,12 @@ import android.support.annotation.Nullable;
 
 import org.jetbrains.annotations.NonNls;
 
+import java.util.Iterator;
+
 import static android.orm.sql.Helper.escape;
 import static android.orm.sql.Select.select;
+import static android.orm.sql.Values.RowId;
+import static android.orm.util.Maybes.something;
 
 public final class Executors {
 
@@ -46,7 +51,16 @@ public final class Executors {
                                                        @NonNull final Predicate predicate,
                                                        @NonNull final ContentValues onInsert,
                                                        @NonNull final Value.Read<K> key) {
-        return new Single<>(executor, escape(table), predicate, onInsert, key);
+        return new Single<>(executor, escape(table), predicate, onInsert, key, false);
+    }
+
+    @NonNull
+    public static <K> Executor.Direct.Single<K> keyed(@NonNull final android.orm.sql.Executor executor,
+                                                      @NonNls @NonNull final String table,
+                                                      @NonNull final Predicate predicate,
+                                                      @NonNull final ContentValues onInsert,
+                                                      @NonNull final Value.Read<K> key) {
+        return new Single<>(executor, escape(table), predicate, onInsert, key, true);
     }
 
     @NonNull
@@ -78,12 +92,15 @@ public final class Executors {
         private final ContentValues mOnInsert;
         @NonNull
         private final Value.Read<K> mKey;
+        @Nullable
+        private final ContentValues mRow;
 
         private Single(@NonNull final android.orm.sql.Executor executor,
                        @NonNls @NonNull final String table,
                        @NonNull final Predicate predicate,
                        @NonNull final ContentValues onInsert,
-                       @NonNull final Value.Read<K> key) {
+                       @NonNull final Value.Read<K> key,
+                       final boolean keyed) {
             super(executor, table, predicate, onInsert, key);
 
             mExecutor = executor;
@@ -91,6 +108,7 @@ public final class Executors {
             mPredicate = predicate;
             mOnInsert = onInsert;
             mKey = key;
+            mRow = keyed ? onInsert : null;
         }
 
         @NonNull
@@ -101,12 +119,9 @@ public final class Executors {
                                                          @Nullable final Order order,
                                                          @Nullable final Limit limit,
                                                          @Nullable final Offset offset) {
-            final Select select = select(mTable)
-                    .with(mPredicate.and(predicate))
-                    .with(Limit.Single)
-                    .build();
+            final Select select = select(mTable, mPredicate.and(predicate), null, Limit.Single, null);
             final Query query = Query.Pool.borrow();
-            query.init(reader, select);
+            query.init(reader, select, predicate.isEmpty() ? mRow : null);
             return (Maybe<Producer<Maybe<M>>>) (Object) mExecutor.execute(query);
         }
 
@@ -151,12 +166,7 @@ public final class Executors {
                                                          @Nullable final Order order,
                                                          @Nullable final Limit limit,
                                                          @Nullable final Offset offset) {
-            final Select select = select(mTable)
-                    .with(mPredicate.and(predicate))
-                    .with(order)
-                    .with(limit)
-                    .with(offset)
-                    .build();
+            final Select select = select(mTable, mPredicate.and(predicate), order, limit, offset);
             final Query query = Query.Pool.borrow();
             query.init(reader, select);
             return (Maybe<Producer<Maybe<M>>>) (Object) mExecutor.execute(query);
@@ -217,6 +227,25 @@ public final class Executors {
             return (Maybe<K>) (Object) mExecutor.execute(insert);
         }
 
+        @NonNull
+        @Override
+        public final Maybe<Keys<K>> insertAll(@NonNull final Iterable<? extends Writer> writers,
+                                              final int chunk) {
+            if (chunk <= 0) {
+                throw new IllegalArgumentException("Chunk size must be positive");
+            }
+
+            final Iterator<? extends Writer> iterator = writers.iterator();
+            final Keys.Builder<K> keys = new Keys.Builder<>(mKey == RowId);
+            while (iterator.hasNext()) {
+                final InsertAll insert = InsertAll.Pool.borrow();
+                insert.init(mTable, iterator, chunk, mOnInsert, mKey, keys);
+                mExecutor.execute(insert);
+            }
+
+            return something(keys.build());
+        }
+
         @NonNull
         @Override
         public final Maybe<Integer> delete(@NonNull final Predicate predicate) {
@@ -19,6 +19,8 @@ package android.orm.dao.direct;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.orm.sql.Expression;
+import android.orm.sql.Select;
+import android.orm.sql.fragment.Limit;
 import android.orm.sql.fragment.Predicate;
 import android.orm.util.Maybe;
 import android.orm.util.Maybes;
@@ -27,7 +29,9 @@ import android.support.annotation.NonNull;
 
 import org.jetbrains.annotations.NonNls;
 
-public class Exists implements Expression<Boolean> {
+import static android.orm.sql.Select.select;
+
+public class Exists implements Expression.ReadOnly<Boolean> {
 
     public static final ObjectPool<Exists> Pool = new ObjectPool<Exists>() {
         @NonNull
@@ -37,8 +41,7 @@ public class Exists implements Expression<Boolean> {
         }
     };
 
-    private static final String[] PROJECTION = {"1"};
-    private static final String SINGLE = "1";
+    private static final Select.Projection PROJECTION = Select.projection("_exists", "1"); //NON-NLS
 
     @NonNull
     private final ObjectPool.Receipt<Exists> mReceipt;
@@ -65,7 +68,7 @@ public class Exists implements Expression<Boolean> {
         final Maybe<Boolean> result;
 
         try {
-            final Cursor cursor = database.query(mTable, PROJECTION, mPredicate.toSQL(), null, null, null, null, SINGLE);
+            final Cursor cursor = select(mTable, mPredicate, null, Limit.Single, null).query(PROJECTION, database);
             try {
                 result = Maybes.something(cursor.getCount() > 0);
             } finally {
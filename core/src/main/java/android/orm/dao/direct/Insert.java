@@ -19,12 +19,14 @@ package android.orm.dao.direct;
 import android.content.ContentValues;
 import android.database.SQLException;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.orm.dao.Changes;
+import android.orm.database.StatementCache;
 import android.orm.sql.Expression;
 import android.orm.sql.Readable;
 import android.orm.sql.Select;
 import android.orm.sql.Value;
 import android.orm.sql.Values;
-import android.orm.sql.Writable;
 import android.orm.sql.Writer;
 import android.orm.sql.fragment.Limit;
 import android.orm.sql.fragment.Predicate;
@@ -35,6 +37,10 @@ import android.util.Log;
 
 import org.jetbrains.annotations.NonNls;
 
+import static android.orm.database.StatementCache.bind;
+import static android.orm.database.StatementCache.borrow;
+import static android.orm.database.StatementCache.columns;
+import static android.orm.database.StatementCache.yield;
 import static android.orm.sql.Readables.combine;
 import static android.orm.sql.Readables.readable;
 import static android.orm.sql.Select.select;
@@ -91,42 +97,10 @@ public class Insert implements Expression<Object> {
         final Maybe<Object> result;
 
         try {
-            final ContentValues values = new ContentValues(mAdditional);
-            final Writable output = writable(values);
-            mWriter.write(Insert, output);
-            if (values.size() <= 0) {
-                if (Log.isLoggable(TAG, INFO)) {
-                    Log.i(TAG, "An empty row will be inserted"); //NON-NLS
-                }
-            }
-
-            final long id = database.insertOrThrow(mTable, null, values);
-
+            final ContentValues values = values(mWriter, mAdditional);
+            final long id = insert(database, mTable, values);
             if (id > 0L) {
-                final Maybe<Long> someId = something(id);
-                RowId.write(Insert, someId, output);
-
-                final Select.Projection remaining = mKey.getProjection().without(getKeys(values));
-                if (remaining.isEmpty()) {
-                    result = mKey.read(readable(values));
-                } else {
-                    final Predicate predicate = WHERE_ROW_ID.isEqualTo(id);
-                    final Select select = select(mTable).with(predicate).with(Limit.Single).build();
-                    final Readable input = select.execute(remaining, database);
-                    if ((input == null) || !input.start()) {
-                        result = nothing();
-                    } else {
-                        try {
-                            result = mKey.read(combine(readable(values), input));
-                        } finally {
-                            input.close();
-                        }
-                    }
-                }
-
-                if (result.isNothing()) {
-                    throw new SQLException("Couldn't read item's key after insert");
-                }
+                result = readKey(database, mTable, values, mKey, id);
             } else {
                 result = nothing();
             }
@@ -140,4 +114,74 @@ public class Insert implements Expression<Object> {
 
         return result;
     }
+
+    @NonNull
+    static ContentValues values(@NonNull final Writer writer,
+                                @NonNull final ContentValues additional) {
+        final ContentValues values = new ContentValues(additional);
+        writer.write(Insert, writable(values));
+        if (values.size() <= 0) {
+            if (Log.isLoggable(TAG, INFO)) {
+                Log.i(TAG, "An empty row will be inserted"); //NON-NLS
+            }
+        }
+        return values;
+    }
+
+    @NonNull
+    static <K> Maybe<K> readKey(@NonNull final SQLiteDatabase database,
+                                @NonNls @NonNull final String table,
+                                @NonNull final ContentValues values,
+                                @NonNull final Value.Read<K> key,
+                                final long id) {
+        final Maybe<K> result;
+
+        RowId.write(Insert, something(id), writable(values));
+
+        final Select.Projection remaining = key.getProjection().without(getKeys(values));
+        if (remaining.isEmpty()) {
+            result = key.read(readable(values));
+        } else {
+            final Predicate predicate = WHERE_ROW_ID.isEqualTo(id);
+            final Select select = select(table, predicate, null, Limit.Single, null);
+            final Readable input = select.execute(remaining, database);
+            if ((input == null) || !input.start()) {
+                result = nothing();
+            } else {
+                try {
+                    result = key.read(combine(readable(values), input));
+                } finally {
+                    input.close();
+                }
+            }
+        }
+
+        if (result.isNothing()) {
+            throw new SQLException("Couldn't read item's key after insert");
+        }
+
+        return result;
+    }
+
+    private static long insert(@NonNull final SQLiteDatabase database,
+                               @NonNls @NonNull final String table,
+                               @NonNull final ContentValues values) {
+        final long id;
+
+        final String[] columns = columns(values);
+        final StatementCache.Key key = StatementCache.Key.insert(table, columns, null);
+        final SQLiteStatement statement = borrow(database, key);
+        try {
+            bind(statement, 1, values, columns);
+            id = statement.executeInsert();
+        } finally {
+            yield(database, key, statement);
+        }
+
+        if (id > 0L) {
+            Changes.changed(database, table);
+        }
+
+        return id;
+    }
 }
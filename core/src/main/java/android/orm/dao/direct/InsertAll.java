@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.dao.direct;
+
+import android.content.ContentValues;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.orm.dao.Changes;
+import android.orm.dao.Keys;
+import android.orm.database.StatementCache;
+import android.orm.sql.Expression;
+import android.orm.sql.Value;
+import android.orm.sql.Values;
+import android.orm.sql.Writer;
+import android.orm.util.Maybe;
+import android.orm.util.ObjectPool;
+import android.support.annotation.NonNull;
+
+import org.jetbrains.annotations.NonNls;
+
+import java.util.Iterator;
+
+import static android.orm.database.StatementCache.bind;
+import static android.orm.database.StatementCache.borrow;
+import static android.orm.database.StatementCache.columns;
+import static android.orm.database.StatementCache.yield;
+import static android.orm.dao.direct.Insert.readKey;
+import static android.orm.dao.direct.Insert.values;
+import static android.orm.util.Maybes.something;
+
+public class InsertAll implements Expression<Integer> {
+
+    public static final ObjectPool<InsertAll> Pool = new ObjectPool<InsertAll>() {
+        @NonNull
+        @Override
+        protected InsertAll produce(@NonNull final Receipt<InsertAll> receipt) {
+            return new InsertAll(receipt);
+        }
+    };
+
+    @NonNull
+    private final ObjectPool.Receipt<InsertAll> mReceipt;
+
+    @NonNls
+    private String mTable;
+    private Iterator<? extends Writer> mWriters;
+    private int mChunk;
+    private ContentValues mAdditional;
+    private Value.Read<Object> mKey;
+    private Keys.Builder<Object> mKeys;
+
+    private InsertAll(@NonNull final ObjectPool.Receipt<InsertAll> receipt) {
+        super();
+
+        mReceipt = receipt;
+    }
+
+    @SuppressWarnings("unchecked")
+    public final void init(@NonNls @NonNull final String table,
+                           @NonNull final Iterator<? extends Writer> writers,
+                           final int chunk,
+                           @NonNull final ContentValues additional,
+                           @NonNull final Value.Read<?> key,
+                           @NonNull final Keys.Builder<?> keys) {
+        mTable = table;
+        mWriters = writers;
+        mChunk = chunk;
+        mAdditional = additional;
+        mKey = Values.safeCast(key);
+        mKeys = (Keys.Builder<Object>) keys;
+    }
+
+    @NonNull
+    @Override
+    public final Maybe<Integer> execute(@NonNull final SQLiteDatabase database) {
+        int inserted = 0;
+
+        try {
+            final boolean keyIsRowId = mKeys.isKeyRowId();
+            StatementCache.Key current = null;
+            SQLiteStatement statement = null;
+
+            try {
+                while ((inserted < mChunk) && mWriters.hasNext()) {
+                    final ContentValues values = values(mWriters.next(), mAdditional);
+                    final String[] columns = columns(values);
+                    final StatementCache.Key key = StatementCache.Key.insert(mTable, columns, null);
+                    if (!key.equals(current)) {
+                        if (statement != null) {
+                            yield(database, current, statement);
+                            statement = null;
+                        }
+                        statement = borrow(database, key);
+                        current = key;
+                    } else {
+                        statement.clearBindings();
+                    }
+
+                    bind(statement, 1, values, columns);
+                    final long id = statement.executeInsert();
+                    if (id <= 0L) {
+                        throw new SQLException("Couldn't insert item " + (mKeys.size() + 1)); //NON-NLS
+                    }
+
+                    mKeys.add(id, keyIsRowId ? null : readKey(database, mTable, values, mKey, id).get());
+                    inserted++;
+                }
+            } finally {
+                if (statement != null) {
+                    yield(database, current, statement);
+                }
+                if (inserted > 0) {
+                    Changes.changed(database, mTable);
+                }
+            }
+        } finally {
+            mTable = null;
+            mWriters = null;
+            mAdditional = null;
+            mKey = null;
+            mKeys = null;
+            mReceipt.yield();
+        }
+
+        return something(inserted);
+    }
+}
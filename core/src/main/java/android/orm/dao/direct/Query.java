@@ -16,13 +16,17 @@
 
 package android.orm.dao.direct;
 
+import android.content.ContentValues;
+import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.orm.Access;
 import android.orm.dao.Executor;
+import android.orm.dao.ResultCache;
 import android.orm.model.Mapper;
 import android.orm.model.Observer;
 import android.orm.model.Plan;
 import android.orm.model.Reading;
+import android.orm.model.Readings;
 import android.orm.sql.AggregateFunction;
 import android.orm.sql.Expression;
 import android.orm.sql.Readable;
@@ -30,6 +34,7 @@ import android.orm.sql.Reader;
 import android.orm.sql.Readers;
 import android.orm.sql.Select;
 import android.orm.sql.Value;
+import android.orm.sql.fragment.Keyset;
 import android.orm.sql.fragment.Limit;
 import android.orm.sql.fragment.Offset;
 import android.orm.sql.fragment.Order;
@@ -38,18 +43,25 @@ import android.orm.util.Function;
 import android.orm.util.Maybe;
 import android.orm.util.ObjectPool;
 import android.orm.util.Producer;
+import android.orm.util.Stream;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import java.util.List;
 
 import static android.orm.model.Observer.beforeRead;
+import static android.orm.sql.Helper.escape;
+import static android.orm.sql.Readables.readable;
 import static android.orm.model.Readings.list;
 import static android.orm.model.Readings.single;
+import static android.orm.sql.Readers.isCacheable;
+import static android.orm.sql.Readers.isStreaming;
 import static android.orm.util.Maybes.nothing;
 import static android.orm.util.Maybes.something;
+import static android.os.Build.VERSION.SDK_INT;
+import static android.os.Build.VERSION_CODES.HONEYCOMB;
 
-public class Query implements Expression<Producer<Maybe<Object>>> {
+public class Query implements Expression.ReadOnly<Producer<Maybe<Object>>> {
 
     public static final ObjectPool<Query> Pool = new ObjectPool<Query>() {
         @NonNull
@@ -71,11 +83,22 @@ public class Query implements Expression<Producer<Maybe<Object>>> {
         }
     };
 
+    private static final int MAX_CACHED_ROWS = 100;
+
+    private static final Object Observed = new Function<Stream<Object>, Stream<Object>>() {
+        @NonNull
+        @Override
+        public Stream<Object> invoke(@NonNull final Stream<Object> stream) {
+            return new ObservedStream<>(stream);
+        }
+    };
+
     @NonNull
     private final ObjectPool.Receipt<Query> mReceipt;
 
     private Reader.Collection<Object> mReader;
     private Select mSelect;
+    private ContentValues mRow;
 
     private Query(@NonNull final ObjectPool.Receipt<Query> receipt) {
         super();
@@ -85,8 +108,15 @@ public class Query implements Expression<Producer<Maybe<Object>>> {
 
     public final void init(@NonNull final Reader.Collection<?> reader,
                            @NonNull final Select select) {
+        init(reader, select, null);
+    }
+
+    public final void init(@NonNull final Reader.Collection<?> reader,
+                           @NonNull final Select select,
+                           @Nullable final ContentValues row) {
         mReader = Readers.safeCast(reader);
         mSelect = select;
+        mRow = row;
     }
 
     @NonNull
@@ -95,31 +125,230 @@ public class Query implements Expression<Producer<Maybe<Object>>> {
         final Maybe<Producer<Maybe<Object>>> result;
 
         try {
-            final Readable input = mSelect.execute(mReader.getProjection(), database);
-            if (input == null) {
-                result = nothing();
+            final boolean cacheable = (SDK_INT >= HONEYCOMB) && isCacheable(mReader);
+            final ResultCache rows = (cacheable && (mRow != null) && isPlain(mReader.getProjection())) ?
+                    ResultCache.getRows(database) :
+                    null;
+            final ResultCache.Key row = (rows == null) ? null : ResultCache.Key.row(mSelect.getTable(), mRow);
+            final ResultCache results = cacheable ? ResultCache.get(database) : null;
+            if (row != null) {
+                result = readRow(database, rows, row, mReader, mSelect);
+            } else if (results == null) {
+                result = read(database, mReader, mSelect);
             } else {
-                try {
-                    result = something(mReader.read(input));
-                } finally {
-                    input.close();
-                }
+                result = readCached(database, results, mReader, mSelect);
             }
         } finally {
             mReader = null;
             mSelect = null;
+            mRow = null;
             mReceipt.yield();
         }
 
         return result;
     }
 
+    @NonNull
+    private static Maybe<Producer<Maybe<Object>>> readCached(@NonNull final SQLiteDatabase database,
+                                                             @NonNull final ResultCache cache,
+                                                             @NonNull final Reader.Collection<Object> reader,
+                                                             @NonNull final Select select) {
+        final Maybe<Producer<Maybe<Object>>> result;
+
+        final Select.Projection projection = reader.getProjection();
+        final ResultCache.Key key = new ResultCache.Key(select.getTable(), select.toSQL(projection), select.getArguments());
+        final ResultCache.Rows rows = cache.get(key);
+        if (rows == null) {
+            final long stamp = cache.stamp();
+            final Cursor cursor = select.query(projection, database);
+            if (cursor == null) {
+                result = nothing();
+            } else {
+                try {
+                    final ResultCache.Rows snapshot = snapshot(cursor, MAX_CACHED_ROWS);
+                    if (snapshot == null) {
+                        cursor.moveToPosition(-1);
+                        result = something(reader.read(readable(cursor)));
+                    } else {
+                        cache.put(key, stamp, snapshot);
+                        result = something(reader.read(readable(snapshot.cursor())));
+                    }
+                } finally {
+                    cursor.close();
+                }
+            }
+        } else {
+            result = something(reader.read(readable(rows.cursor())));
+        }
+
+        return result;
+    }
+
+    @NonNull
+    private static Maybe<Producer<Maybe<Object>>> readRow(@NonNull final SQLiteDatabase database,
+                                                          @NonNull final ResultCache cache,
+                                                          @NonNull final ResultCache.Key key,
+                                                          @NonNull final Reader.Collection<Object> reader,
+                                                          @NonNull final Select select) {
+        final Maybe<Producer<Maybe<Object>>> result;
+
+        final Select.Projection projection = reader.getProjection();
+        final ContentValues row = cache.getRow(key);
+        if ((row != null) && contains(row, projection)) {
+            result = something(reader.read(readable(row)));
+        } else {
+            final long stamp = cache.stamp();
+            final Cursor cursor = select.query(projection, database);
+            if (cursor == null) {
+                result = nothing();
+            } else {
+                try {
+                    if (cursor.moveToFirst()) {
+                        cache.putRow(key, stamp, snapshot(cursor));
+                    }
+                    result = something(reader.read(readable(cursor)));
+                } finally {
+                    cursor.close();
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean isPlain(@NonNull final Select.Projection projection) {
+        boolean result = !projection.isEmpty();
+
+        for (final String value : projection.asMap().values()) {
+            result = result && (value == null);
+        }
+
+        return result;
+    }
+
+    private static boolean contains(@NonNull final ContentValues row,
+                                    @NonNull final Select.Projection projection) {
+        boolean result = true;
+
+        for (final String name : projection.asMap().keySet()) {
+            result = result && row.containsKey(escape(name));
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private static ResultCache.Rows snapshot(@NonNull final Cursor cursor, final int max) {
+        ResultCache.Rows result = null;
+
+        if (cursor.getCount() <= max) {
+            final int count = cursor.getColumnCount();
+            result = new ResultCache.Rows(cursor.getColumnNames());
+            while (cursor.moveToNext()) {
+                final Object[] row = new Object[count];
+                for (int i = 0; i < count; i++) {
+                    row[i] = get(cursor, i);
+                }
+                result.add(row);
+            }
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private static Object get(@NonNull final Cursor cursor, final int index) {
+        final Object result;
+
+        switch (cursor.getType(index)) {
+            case Cursor.FIELD_TYPE_INTEGER:
+                result = cursor.getLong(index);
+                break;
+            case Cursor.FIELD_TYPE_FLOAT:
+                result = cursor.getDouble(index);
+                break;
+            case Cursor.FIELD_TYPE_STRING:
+                result = cursor.getString(index);
+                break;
+            case Cursor.FIELD_TYPE_BLOB:
+                result = cursor.getBlob(index);
+                break;
+            default:
+                result = null;
+                break;
+        }
+
+        return result;
+    }
+
+    @NonNull
+    private static ContentValues snapshot(@NonNull final Cursor cursor) {
+        final int count = cursor.getColumnCount();
+        final ContentValues result = new ContentValues(count);
+
+        for (int i = 0; i < count; i++) {
+            final String key = escape(cursor.getColumnName(i));
+            switch (cursor.getType(i)) {
+                case Cursor.FIELD_TYPE_INTEGER:
+                    result.put(key, cursor.getLong(i));
+                    break;
+                case Cursor.FIELD_TYPE_FLOAT:
+                    result.put(key, cursor.getDouble(i));
+                    break;
+                case Cursor.FIELD_TYPE_STRING:
+                    result.put(key, cursor.getString(i));
+                    break;
+                case Cursor.FIELD_TYPE_BLOB:
+                    result.put(key, cursor.getBlob(i));
+                    break;
+                default:
+                    result.putNull(key);
+                    break;
+            }
+        }
+
+        return result;
+    }
+
+    @NonNull
+    private static Maybe<Producer<Maybe<Object>>> read(@NonNull final SQLiteDatabase database,
+                                                       @NonNull final Reader.Collection<Object> reader,
+                                                       @NonNull final Select select) {
+        final Maybe<Producer<Maybe<Object>>> result;
+
+        final Readable input = select.execute(reader.getProjection(), database);
+        if (input == null) {
+            result = nothing();
+        } else if (isStreaming(reader)) {
+            try {
+                result = something(reader.read(input));
+            } catch (final RuntimeException cause) {
+                input.close();
+                throw cause;
+            }
+        } else {
+            try {
+                result = something(reader.read(input));
+            } finally {
+                input.close();
+            }
+        }
+
+        return result;
+    }
+
     @NonNull
     @SuppressWarnings("unchecked")
     public static <V> Function<Producer<Maybe<V>>, Maybe<V>> afterRead() {
         return (Function<Producer<Maybe<V>>, Maybe<V>>) AfterRead;
     }
 
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public static <V> Function<Stream<V>, Stream<V>> observed() {
+        return (Function<Stream<V>, Stream<V>>) Observed;
+    }
+
     public static final class Builder {
 
         public static class Single implements Access.Direct.Query.Builder.Single {
@@ -256,16 +485,90 @@ public class Query implements Expression<Producer<Maybe<Object>>> {
                 return select(reading.prepareReader());
             }
 
+            @NonNull
+            @Override
+            public final <V> Maybe<Stream<V>> stream(@NonNull final Value.Read<V> value) {
+                return select(Readings.stream(value)).map(Query.<V>observed());
+            }
+
+            @NonNull
+            @Override
+            public final <M> Maybe<Stream<M>> stream(@NonNull final Mapper.Read<M> mapper) {
+                return select(Readings.stream(mapper)).map(Query.<M>observed());
+            }
+
+            @NonNull
+            @Override
+            public final <V> Maybe<Keyset.Page<V>> page(@NonNull final Keyset keyset,
+                                                   @Nullable final Keyset.Token after,
+                                                   final int size,
+                                                   @NonNull final Value.Read<V> value) {
+                return page(keyset, after, size, Readings.page(value, keyset, size));
+            }
+
+            @NonNull
+            @Override
+            public final <M> Maybe<Keyset.Page<M>> page(@NonNull final Keyset keyset,
+                                                   @Nullable final Keyset.Token after,
+                                                   final int size,
+                                                   @NonNull final Mapper.Read<M> mapper) {
+                return page(keyset, after, size, Readings.page(mapper, keyset, size));
+            }
+
             @NonNull
             @Override
             public final <V> Maybe<V> select(@NonNull final Reader.Collection<V> reader) {
                 final Maybe<Producer<Maybe<V>>> result = mExecutor.query(reader, mPredicate, mOrder, mLimit, mOffset);
                 return result.flatMap(Query.<V>afterRead());
             }
+
+            @NonNull
+            private <V> Maybe<V> page(@NonNull final Keyset keyset,
+                                      @Nullable final Keyset.Token after,
+                                      final int size,
+                                      @NonNull final Reading.Many<V> reading) {
+                final Predicate predicate = mPredicate.and(keyset.after(after));
+                final Maybe<Producer<Maybe<V>>> result = mExecutor.query(reading.prepareReader(), predicate, keyset.getOrder(), new Limit(size + 1), null);
+                return result.flatMap(Query.<V>afterRead());
+            }
         }
 
         private Builder() {
             super();
         }
     }
+
+    private static class ObservedStream<V> implements Stream<V> {
+
+        @NonNull
+        private final Stream<V> mStream;
+
+        private ObservedStream(@NonNull final Stream<V> stream) {
+            super();
+
+            mStream = stream;
+        }
+
+        @Override
+        public final boolean hasNext() {
+            return mStream.hasNext();
+        }
+
+        @Override
+        public final V next() {
+            final V result = mStream.next();
+            Observer.afterRead(result);
+            return result;
+        }
+
+        @Override
+        public final void remove() {
+            mStream.remove();
+        }
+
+        @Override
+        public final void close() {
+            mStream.close();
+        }
+    }
 }
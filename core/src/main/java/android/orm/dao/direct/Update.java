@@ -19,6 +19,9 @@ package android.orm.dao.direct;
 import android.content.ContentValues;
 import android.database.SQLException;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.orm.dao.Changes;
+import android.orm.database.StatementCache;
 import android.orm.sql.Expression;
 import android.orm.sql.Readable;
 import android.orm.sql.Select;
@@ -35,6 +38,10 @@ import android.util.Log;
 
 import org.jetbrains.annotations.NonNls;
 
+import static android.orm.database.StatementCache.bind;
+import static android.orm.database.StatementCache.borrow;
+import static android.orm.database.StatementCache.columns;
+import static android.orm.database.StatementCache.yield;
 import static android.orm.sql.Readables.combine;
 import static android.orm.sql.Readables.readable;
 import static android.orm.sql.Select.select;
@@ -43,6 +50,8 @@ import static android.orm.sql.Writables.writable;
 import static android.orm.util.Legacy.getKeys;
 import static android.orm.util.Maybes.nothing;
 import static android.orm.util.Maybes.something;
+import static android.os.Build.VERSION.SDK_INT;
+import static android.os.Build.VERSION_CODES.HONEYCOMB;
 import static android.util.Log.INFO;
 
 public final class Update {
@@ -86,7 +95,7 @@ public final class Update {
             mWriter = writer;
             mAdditional = additional;
             mKey = Values.safeCast(key);
-            mSelect = select(table).with(predicate).with(Limit.Single).build();
+            mSelect = select(table, predicate, null, Limit.Single, null);
         }
 
         @NonNull
@@ -200,7 +209,19 @@ public final class Update {
         final int updated;
 
         if (values.size() > 0) {
-            updated = database.update(table, values, predicate.toSQL(), null);
+            if (SDK_INT >= HONEYCOMB) {
+                final String[] columns = columns(values);
+                final StatementCache.Key key = StatementCache.Key.update(table, columns, predicate, null);
+                final SQLiteStatement statement = borrow(database, key);
+                try {
+                    bind(statement, bind(statement, 1, values, columns), predicate);
+                    updated = statement.executeUpdateDelete();
+                } finally {
+                    yield(database, key, statement);
+                }
+            } else {
+                updated = database.update(table, values, predicate.toSelection(), predicate.getSelectionArgs());
+            }
         } else {
             updated = 0;
             if (Log.isLoggable(TAG, INFO)) {
@@ -208,6 +229,10 @@ public final class Update {
             }
         }
 
+        if (updated > 0) {
+            Changes.changed(database, table);
+        }
+
         return updated;
     }
 
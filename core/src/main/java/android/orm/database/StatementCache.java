@@ -0,0 +1,408 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.database;
+
+import android.content.ContentValues;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteProgram;
+import android.database.sqlite.SQLiteStatement;
+import android.orm.sql.fragment.ConflictResolution;
+import android.orm.sql.fragment.Predicate;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import org.jetbrains.annotations.NonNls;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static android.orm.util.Legacy.getKeys;
+
+public class StatementCache {
+
+    public static final int DEFAULT_MAX_SIZE = 25;
+
+    private static final Lock sLock = new ReentrantLock();
+    private static final Map<SQLiteDatabase, StatementCache> sCaches = new WeakHashMap<>();
+
+    private final int mMaxSize;
+
+    private final Lock mLock = new ReentrantLock();
+    private final Map<Key, SQLiteStatement> mStatements;
+    @Nullable
+    private SQLiteDatabase mDatabase;
+    private long mHits = 0;
+    private long mMisses = 0;
+
+    public StatementCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public StatementCache(final int maxSize) {
+        super();
+
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Max size cannot be negative");
+        }
+
+        mMaxSize = maxSize;
+        mStatements = new LinkedHashMap<Key, SQLiteStatement>(maxSize, 0.75F, true) {
+
+            private static final long serialVersionUID = -2817347412566395542L;
+
+            @Override
+            protected boolean removeEldestEntry(@NonNull final Map.Entry<Key, SQLiteStatement> eldest) {
+                final boolean remove = size() > mMaxSize;
+                if (remove) {
+                    eldest.getValue().close();
+                }
+                return remove;
+            }
+        };
+    }
+
+    public final int getMaxSize() {
+        return mMaxSize;
+    }
+
+    public final int getSize() {
+        mLock.lock();
+        try {
+            return mStatements.size();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public final long getHits() {
+        mLock.lock();
+        try {
+            return mHits;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public final long getMisses() {
+        mLock.lock();
+        try {
+            return mMisses;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public final void attach(@NonNull final SQLiteDatabase database) {
+        mLock.lock();
+        try {
+            if (mDatabase != database) {
+                closeAll();
+                mDatabase = database;
+            }
+        } finally {
+            mLock.unlock();
+        }
+
+        sLock.lock();
+        try {
+            sCaches.put(database, this);
+        } finally {
+            sLock.unlock();
+        }
+    }
+
+    public final void clear() {
+        mLock.lock();
+        try {
+            closeAll();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @NonNull
+    public static SQLiteStatement borrow(@NonNull final SQLiteDatabase database,
+                                         @NonNull final Key key) {
+        final StatementCache cache = get(database);
+        SQLiteStatement statement = (cache == null) ? null : cache.take(database, key);
+        if (statement == null) {
+            statement = database.compileStatement(key.toSQL());
+        }
+        return statement;
+    }
+
+    public static void yield(@NonNull final SQLiteDatabase database,
+                             @NonNull final Key key,
+                             @NonNull final SQLiteStatement statement) {
+        final StatementCache cache = get(database);
+        if ((cache == null) || !cache.put(database, key, statement)) {
+            statement.close();
+        }
+    }
+
+    public static void bind(@NonNull final SQLiteProgram program,
+                            final int index,
+                            @Nullable final Object value) {
+        if (value == null) {
+            program.bindNull(index);
+        } else if ((value instanceof Long) || (value instanceof Integer) ||
+                (value instanceof Short) || (value instanceof Byte)) {
+            program.bindLong(index, ((Number) value).longValue());
+        } else if ((value instanceof Double) || (value instanceof Float)) {
+            program.bindDouble(index, ((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            program.bindLong(index, ((Boolean) value) ? 1L : 0L);
+        } else if (value instanceof byte[]) {
+            program.bindBlob(index, (byte[]) value);
+        } else {
+            program.bindString(index, value.toString());
+        }
+    }
+
+    public static int bind(@NonNull final SQLiteProgram program,
+                           final int start,
+                           @NonNull final ContentValues values,
+                           @NonNull final String... columns) {
+        int index = start;
+        for (final String column : columns) {
+            bind(program, index, values.get(column));
+            index++;
+        }
+        return index;
+    }
+
+    public static int bind(@NonNull final SQLiteProgram program,
+                           final int start,
+                           @NonNull final Predicate predicate) {
+        int index = start;
+        for (final Object argument : predicate.getArguments()) {
+            bind(program, index, argument);
+            index++;
+        }
+        return index;
+    }
+
+    @NonNls
+    @NonNull
+    public static String[] columns(@NonNull final ContentValues values) {
+        final Set<String> keys = getKeys(values);
+        final String[] columns = keys.toArray(new String[keys.size()]);
+        Arrays.sort(columns);
+        return columns;
+    }
+
+    @Nullable
+    private static StatementCache get(@NonNull final SQLiteDatabase database) {
+        sLock.lock();
+        try {
+            return sCaches.get(database);
+        } finally {
+            sLock.unlock();
+        }
+    }
+
+    @Nullable
+    private SQLiteStatement take(@NonNull final SQLiteDatabase database, @NonNull final Key key) {
+        SQLiteStatement statement = null;
+
+        mLock.lock();
+        try {
+            if (mDatabase == database) {
+                statement = mStatements.remove(key);
+                if (statement == null) {
+                    mMisses++;
+                } else {
+                    mHits++;
+                }
+            }
+        } finally {
+            mLock.unlock();
+        }
+
+        return statement;
+    }
+
+    private boolean put(@NonNull final SQLiteDatabase database,
+                        @NonNull final Key key,
+                        @NonNull final SQLiteStatement statement) {
+        boolean result = false;
+
+        mLock.lock();
+        try {
+            if ((mMaxSize > 0) && (mDatabase == database) && !mStatements.containsKey(key)) {
+                statement.clearBindings();
+                mStatements.put(key, statement);
+                result = true;
+            }
+        } finally {
+            mLock.unlock();
+        }
+
+        return result;
+    }
+
+    private void closeAll() {
+        final Iterator<SQLiteStatement> statements = mStatements.values().iterator();
+        while (statements.hasNext()) {
+            statements.next().close();
+            statements.remove();
+        }
+    }
+
+    public static final class Key {
+
+        private enum Operation {
+            Insert, Update, Delete
+        }
+
+        @NonNull
+        private final Operation mOperation;
+        @NonNls
+        @NonNull
+        private final String mTable;
+        @NonNls
+        @NonNull
+        private final String[] mColumns;
+        @NonNls
+        @Nullable
+        private final String mWhere;
+        @Nullable
+        private final ConflictResolution mResolution;
+        private final int mHashCode;
+
+        private Key(@NonNull final Operation operation,
+                    @NonNls @NonNull final String table,
+                    @NonNls @NonNull final String[] columns,
+                    @NonNls @Nullable final String where,
+                    @Nullable final ConflictResolution resolution) {
+            super();
+
+            mOperation = operation;
+            mTable = table;
+            mColumns = columns;
+            mWhere = where;
+            mResolution = resolution;
+
+            int hashCode = operation.hashCode();
+            hashCode = (31 * hashCode) + table.hashCode();
+            hashCode = (31 * hashCode) + Arrays.hashCode(columns);
+            hashCode = (31 * hashCode) + ((where == null) ? 0 : where.hashCode());
+            hashCode = (31 * hashCode) + ((resolution == null) ? 0 : resolution.hashCode());
+            mHashCode = hashCode;
+        }
+
+        @NonNull
+        public static Key insert(@NonNls @NonNull final String table,
+                                 @NonNls @NonNull final String[] columns,
+                                 @Nullable final ConflictResolution resolution) {
+            return new Key(Operation.Insert, table, columns, null, resolution);
+        }
+
+        @NonNull
+        public static Key update(@NonNls @NonNull final String table,
+                                 @NonNls @NonNull final String[] columns,
+                                 @NonNull final Predicate predicate,
+                                 @Nullable final ConflictResolution resolution) {
+            return new Key(Operation.Update, table, columns, predicate.toSQL(), resolution);
+        }
+
+        @NonNull
+        public static Key delete(@NonNls @NonNull final String table,
+                                 @NonNull final Predicate predicate) {
+            return new Key(Operation.Delete, table, new String[0], predicate.toSQL(), null);
+        }
+
+        @NonNls
+        @NonNull
+        public final String toSQL() {
+            @NonNls final StringBuilder result = new StringBuilder();
+
+            switch (mOperation) {
+                case Insert:
+                    result.append("insert ");
+                    if (mResolution != null) {
+                        result.append("or ").append(mResolution.toSQL()).append(' ');
+                    }
+                    result.append("into ").append(mTable);
+                    if (mColumns.length > 0) {
+                        result.append(" (");
+                        for (final String column : mColumns) {
+                            result.append(column).append(", ");
+                        }
+                        result.replace(result.length() - 2, result.length(), ")\nvalues (");
+                        for (int i = 0; i < mColumns.length; i++) {
+                            result.append("?, ");
+                        }
+                        result.replace(result.length() - 2, result.length(), ")");
+                    } else {
+                        result.append(" default values");
+                    }
+                    break;
+                case Update:
+                    result.append("update ");
+                    if (mResolution != null) {
+                        result.append("or ").append(mResolution.toSQL()).append(' ');
+                    }
+                    result.append(mTable).append("\nset ");
+                    for (final String column : mColumns) {
+                        result.append(column).append(" = ?, ");
+                    }
+                    result.delete(result.length() - 2, result.length());
+                    if (mWhere != null) {
+                        result.append("\nwhere ").append(mWhere);
+                    }
+                    break;
+                case Delete:
+                    result.append("delete from ").append(mTable);
+                    if (mWhere != null) {
+                        result.append("\nwhere ").append(mWhere);
+                    }
+                    break;
+            }
+
+            return result.toString();
+        }
+
+        @Override
+        public final boolean equals(@Nullable final Object object) {
+            boolean result = this == object;
+
+            if (!result && (object != null) && (getClass() == object.getClass())) {
+                final Key other = (Key) object;
+                result = (mHashCode == other.mHashCode) &&
+                        (mOperation == other.mOperation) &&
+                        (mResolution == other.mResolution) &&
+                        mTable.equals(other.mTable) &&
+                        Arrays.equals(mColumns, other.mColumns) &&
+                        ((mWhere == null) ? (other.mWhere == null) : mWhere.equals(other.mWhere));
+            }
+
+            return result;
+        }
+
+        @Override
+        public final int hashCode() {
+            return mHashCode;
+        }
+    }
+}
@@ -20,12 +20,14 @@ import android.orm.sql.Reader;
 import android.orm.sql.Readers;
 import android.orm.sql.Select;
 import android.orm.sql.Value;
+import android.orm.sql.fragment.Keyset;
 import android.orm.util.Converter;
 import android.orm.util.Converters;
 import android.orm.util.Function;
 import android.orm.util.Maybe;
 import android.orm.util.Producer;
 import android.orm.util.Producers;
+import android.orm.util.Stream;
 import android.support.annotation.NonNull;
 import android.util.Pair;
 import android.util.SparseArray;
@@ -60,6 +62,30 @@ public final class Readings {
         return new Many<>(Readers.list(mapper.getName(), mapper.prepareReader()));
     }
 
+    @NonNull
+    public static <V> Reading.Many<Stream<V>> stream(@NonNull final Value.Read<V> value) {
+        return new Many<>(Readers.stream(value.getName(), Plan.Read.from(value)));
+    }
+
+    @NonNull
+    public static <M> Reading.Many<Stream<M>> stream(@NonNull final Mapper.Read<M> mapper) {
+        return new Many<>(Readers.stream(mapper.getName(), mapper.prepareReader()));
+    }
+
+    @NonNull
+    public static <V> Reading.Many<Keyset.Page<V>> page(@NonNull final Value.Read<V> value,
+                                                        @NonNull final Keyset keyset,
+                                                        final int size) {
+        return new Many<>(Readers.page(value.getName(), Plan.Read.from(value), keyset, size));
+    }
+
+    @NonNull
+    public static <M> Reading.Many<Keyset.Page<M>> page(@NonNull final Mapper.Read<M> mapper,
+                                                        @NonNull final Keyset keyset,
+                                                        final int size) {
+        return new Many<>(Readers.page(mapper.getName(), mapper.prepareReader(), keyset, size));
+    }
+
     @NonNull
     public static <V> Reading.Many<Set<V>> set(@NonNull final Value.Read<V> value) {
         return new Many<>(Readers.set(value.getName(), Plan.Read.from(value)));
@@ -132,7 +132,7 @@ public final class AggregateFunctions {
             @NonNull
             @Override
             public final Maybe<Long> read(@NonNull final Readable input) {
-                return input.getAsLong(mName);
+                return Types.Integer.read(input, mName);
             }
         }
 
@@ -208,7 +208,7 @@ public final class AggregateFunctions {
             @NonNull
             @Override
             public final Maybe<Double> read(@NonNull final Readable input) {
-                return input.getAsDouble(mName);
+                return Types.Real.read(input, mName);
             }
         }
 
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2013 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.sql;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import org.jetbrains.annotations.NonNls;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static android.orm.sql.Helper.escape;
+import static java.lang.System.arraycopy;
+
+final class Catalog {
+
+    private static final Lock sLock = new ReentrantLock();
+    @NonNull
+    private static volatile State sState = new State(Collections.<String, Integer>emptyMap(), new String[0]);
+
+    public static void register(@NonNull final Collection<Column<?>> columns) {
+        for (final Column<?> column : columns) {
+            index(column.getName());
+        }
+    }
+
+    @NonNull
+    public static Select.Projection projection(@NonNls @NonNull final String name) {
+        final int index = index(name);
+        final long[] words = new long[(index >>> 6) + 1];
+        words[index >>> 6] = 1L << index;
+        return new Bits(words);
+    }
+
+    @NonNull
+    public static Select.Projection projection(@NonNls @NonNull final Collection<String> names) {
+        long[] words = new long[0];
+
+        for (final String name : names) {
+            final int index = index(name);
+            final int word = index >>> 6;
+            if (word >= words.length) {
+                final long[] grown = new long[word + 1];
+                arraycopy(words, 0, grown, 0, words.length);
+                words = grown;
+            }
+            words[word] |= 1L << index;
+        }
+
+        return create(words);
+    }
+
+    @NonNull
+    public static Select.Projection union(@NonNull final Bits first, @NonNull final Bits second) {
+        final long[] longer = (first.mWords.length >= second.mWords.length) ? first.mWords : second.mWords;
+        final long[] shorter = (longer == first.mWords) ? second.mWords : first.mWords;
+        final long[] words = longer.clone();
+        boolean changed = false;
+
+        for (int i = 0; i < shorter.length; i++) {
+            changed = changed || ((words[i] | shorter[i]) != words[i]);
+            words[i] |= shorter[i];
+        }
+
+        final Select.Projection result;
+        if (changed) {
+            result = new Bits(words);
+        } else {
+            result = (longer == first.mWords) ? first : second;
+        }
+        return result;
+    }
+
+    @NonNull
+    public static Select.Projection difference(@NonNull final Bits first, @NonNull final Bits second) {
+        final long[] words = first.mWords.clone();
+        final int length = Math.min(words.length, second.mWords.length);
+        boolean changed = false;
+
+        for (int i = 0; i < length; i++) {
+            changed = changed || ((words[i] & second.mWords[i]) != 0L);
+            words[i] &= ~second.mWords[i];
+        }
+
+        return changed ? create(words) : first;
+    }
+
+    @NonNull
+    public static Select.Projection without(@NonNull final Bits first, @NonNls @NonNull final Set<String> names) {
+        final Map<String, Integer> indices = sState.mIndices;
+        long[] words = null;
+
+        for (final String name : names) {
+            final Integer index = indices.get(name);
+            if (index != null) {
+                final int word = index >>> 6;
+                final long bit = 1L << index;
+                if ((word < first.mWords.length) && ((first.mWords[word] & bit) != 0L)) {
+                    if (words == null) {
+                        words = first.mWords.clone();
+                    }
+                    words[word] &= ~bit;
+                }
+            }
+        }
+
+        return (words == null) ? first : create(words);
+    }
+
+    private static int index(@NonNls @NonNull final String name) {
+        Integer result = sState.mIndices.get(name);
+
+        if (result == null) {
+            sLock.lock();
+            try {
+                final State state = sState;
+                result = state.mIndices.get(name);
+                if (result == null) {
+                    result = state.mNames.length;
+
+                    final Map<String, Integer> indices = new HashMap<>(state.mIndices);
+                    indices.put(name, result);
+                    indices.put(escape(name), result);
+                    final String[] names = new String[result + 1];
+                    arraycopy(state.mNames, 0, names, 0, state.mNames.length);
+                    names[result] = name;
+
+                    sState = new State(indices, names);
+                }
+            } finally {
+                sLock.unlock();
+            }
+        }
+
+        return result;
+    }
+
+    @NonNull
+    private static Select.Projection create(@NonNull final long[] words) {
+        boolean empty = true;
+        for (int i = 0; (i < words.length) && empty; i++) {
+            empty = words[i] == 0L;
+        }
+
+        return empty ? Select.Projection.Nothing : new Bits(words);
+    }
+
+    private static class State {
+
+        @NonNull
+        private final Map<String, Integer> mIndices;
+        @NonNls
+        @NonNull
+        private final String[] mNames;
+
+        private State(@NonNull final Map<String, Integer> indices, @NonNls @NonNull final String[] names) {
+            super();
+
+            mIndices = indices;
+            mNames = names;
+        }
+    }
+
+    static final class Bits extends Select.Projection.Base {
+
+        @NonNull
+        private final long[] mWords;
+
+        @NonNls
+        @Nullable
+        private volatile String[] mArray;
+        @Nullable
+        private volatile Map<String, String> mMap;
+
+        private Bits(@NonNull final long[] words) {
+            super();
+
+            mWords = words;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @NonNls
+        @NonNull
+        @Override
+        public String[] asArray() {
+            String[] result = mArray;
+
+            if (result == null) {
+                final String[] names = sState.mNames;
+                final String[] array = new String[count()];
+                int i = 0;
+                for (int index = 0; index < names.length; index++) {
+                    if (contains(index)) {
+                        array[i] = escape(names[index]);
+                        i++;
+                    }
+                }
+                result = array;
+                mArray = result;
+            }
+
+            return result;
+        }
+
+        @NonNull
+        @Override
+        public Map<String, String> asMap() {
+            Map<String, String> result = mMap;
+
+            if (result == null) {
+                final String[] names = sState.mNames;
+                final Map<String, String> map = new LinkedHashMap<>(count());
+                for (int index = 0; index < names.length; index++) {
+                    if (contains(index)) {
+                        map.put(names[index], null);
+                    }
+                }
+                result = Collections.unmodifiableMap(map);
+                mMap = result;
+            }
+
+            return result;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object object) {
+            boolean result = this == object;
+
+            if (!result && (object != null) && (getClass() == object.getClass())) {
+                final long[] other = ((Bits) object).mWords;
+                final int length = Math.max(mWords.length, other.length);
+                result = true;
+                for (int i = 0; (i < length) && result; i++) {
+                    result = word(mWords, i) == word(other, i);
+                }
+            }
+
+            return result;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 0;
+
+            for (int i = 0; i < mWords.length; i++) {
+                result ^= (int) (mWords[i] ^ (mWords[i] >>> 32)) * (31 * i + 1);
+            }
+
+            return result;
+        }
+
+        private static long word(@NonNull final long[] words, final int index) {
+            return (index < words.length) ? words[index] : 0L;
+        }
+
+        private boolean contains(final int index) {
+            final int word = index >>> 6;
+            return (word < mWords.length) && ((mWords[word] & (1L << index)) != 0L);
+        }
+
+        private int count() {
+            int result = 0;
+            for (final long word : mWords) {
+                result += Long.bitCount(word);
+            }
+            return result;
+        }
+    }
+
+    private Catalog() {
+        super();
+    }
+}
@@ -109,6 +109,10 @@ public class Column<V> extends Value.ReadWrite.Base<V> implements Fragment {
         return mNullable;
     }
 
+    public final boolean isUpdateable() {
+        return Validations.isUpdateable(mValidation);
+    }
+
     public final boolean isUnique() {
         return mUnique != null;
     }
@@ -130,6 +134,83 @@ public class Column<V> extends Value.ReadWrite.Base<V> implements Fragment {
         return result;
     }
 
+    public final boolean isNull(@NonNull final Readable input) {
+        final boolean result;
+
+        if (mValidation == null) {
+            final int index = input.indexOf(mName);
+            result = (index < 0) || input.isNull(index);
+        } else {
+            result = read(input).getOrElse(null) == null;
+        }
+
+        return result;
+    }
+
+    public final long readLong(@NonNull final Readable input, final long otherwise) {
+        final long result;
+
+        if ((mValidation == null) && ((mType == Types.Integer) || (mType == Types.Bool))) {
+            final int index = input.indexOf(mName);
+            result = ((index < 0) || input.isNull(index)) ? otherwise : input.readLong(index);
+        } else {
+            final V value = read(input).getOrElse(null);
+            if (value == null) {
+                result = otherwise;
+            } else if (value instanceof Number) {
+                result = ((Number) value).longValue();
+            } else if (value instanceof Boolean) {
+                result = ((Boolean) value) ? 1L : 0L;
+            } else {
+                throw new SQLException("Column " + mName + " is not numeric");
+            }
+        }
+
+        return result;
+    }
+
+    public final double readDouble(@NonNull final Readable input, final double otherwise) {
+        final double result;
+
+        if ((mValidation == null) && ((mType == Types.Real) || (mType == Types.Integer))) {
+            final int index = input.indexOf(mName);
+            result = ((index < 0) || input.isNull(index)) ? otherwise : input.readDouble(index);
+        } else {
+            final V value = read(input).getOrElse(null);
+            if (value == null) {
+                result = otherwise;
+            } else if (value instanceof Number) {
+                result = ((Number) value).doubleValue();
+            } else {
+                throw new SQLException("Column " + mName + " is not numeric");
+            }
+        }
+
+        return result;
+    }
+
+    public final boolean readBoolean(@NonNull final Readable input, final boolean otherwise) {
+        final boolean result;
+
+        if ((mValidation == null) && ((mType == Types.Bool) || (mType == Types.Integer))) {
+            final int index = input.indexOf(mName);
+            result = ((index < 0) || input.isNull(index)) ? otherwise : (input.readLong(index) != 0L);
+        } else {
+            final V value = read(input).getOrElse(null);
+            if (value == null) {
+                result = otherwise;
+            } else if (value instanceof Boolean) {
+                result = (Boolean) value;
+            } else if (value instanceof Number) {
+                result = ((Number) value).longValue() != 0L;
+            } else {
+                throw new SQLException("Column " + mName + " is not a boolean");
+            }
+        }
+
+        return result;
+    }
+
     @Override
     public final void write(@NonNull final Value.Write.Operation operation,
                             @NonNull final Maybe<V> value,
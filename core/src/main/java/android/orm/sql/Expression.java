@@ -21,6 +21,10 @@ import android.orm.util.Maybe;
 import android.support.annotation.NonNull;
 
 public interface Expression<V> {
+
     @NonNull
     Maybe<V> execute(@NonNull final SQLiteDatabase database);
+
+    interface ReadOnly<V> extends Expression<V> {
+    }
 }
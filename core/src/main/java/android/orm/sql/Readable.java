@@ -19,6 +19,8 @@ package android.orm.sql;
 import android.orm.util.Maybe;
 import android.support.annotation.NonNull;
 
+import org.jetbrains.annotations.NonNls;
+
 import java.io.Closeable;
 import java.util.Set;
 
@@ -33,6 +35,14 @@ public interface Readable extends Closeable {
     @NonNull
     Maybe<Double> getAsDouble(@NonNull final String key);
 
+    int indexOf(@NonNls @NonNull final String key);
+
+    boolean isNull(final int index);
+
+    long readLong(final int index);
+
+    double readDouble(final int index);
+
     @NonNull
     Set<String> getKeys();
 
@@ -29,7 +29,11 @@ import android.support.annotation.Nullable;
 
 import org.jetbrains.annotations.NonNls;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static android.orm.sql.Helper.escape;
@@ -68,17 +72,21 @@ public final class Readables {
 
         @NonNull
         private final Cursor mCursor;
+        @NonNls
+        @NonNull
+        private final Map<String, Integer> mIndices;
 
         private CursorReadable(@NonNull final Cursor cursor) {
             super();
 
             mCursor = cursor;
+            mIndices = new HashMap<>(cursor.getColumnCount());
         }
 
         @NonNull
         @Override
         public final Maybe<String> getAsString(@NonNull final String key) {
-            final int index = mCursor.getColumnIndex(key);
+            final int index = index(key);
             return (index < 0) ?
                     Maybes.<String>nothing() :
                     something(mCursor.isNull(index) ? null : mCursor.getString(index));
@@ -87,7 +95,7 @@ public final class Readables {
         @NonNull
         @Override
         public final Maybe<Long> getAsLong(@NonNull final String key) {
-            final int index = mCursor.getColumnIndex(key);
+            final int index = index(key);
             return (index < 0) ?
                     Maybes.<Long>nothing() :
                     something(mCursor.isNull(index) ? null : mCursor.getLong(index));
@@ -96,12 +104,32 @@ public final class Readables {
         @NonNull
         @Override
         public final Maybe<Double> getAsDouble(@NonNull final String key) {
-            final int index = mCursor.getColumnIndex(key);
+            final int index = index(key);
             return (index < 0) ?
                     Maybes.<Double>nothing() :
                     something(mCursor.isNull(index) ? null : mCursor.getDouble(index));
         }
 
+        @Override
+        public final int indexOf(@NonNls @NonNull final String key) {
+            return index(key);
+        }
+
+        @Override
+        public final boolean isNull(final int index) {
+            return mCursor.isNull(index);
+        }
+
+        @Override
+        public final long readLong(final int index) {
+            return mCursor.getLong(index);
+        }
+
+        @Override
+        public final double readDouble(final int index) {
+            return mCursor.getDouble(index);
+        }
+
         @NonNull
         @Override
         public final Set<String> getKeys() {
@@ -139,12 +167,24 @@ public final class Readables {
         public final void close() {
             mCursor.close();
         }
+
+        private int index(@NonNls @NonNull final String key) {
+            Integer index = mIndices.get(key);
+            if (index == null) {
+                index = mCursor.getColumnIndex(key);
+                mIndices.put(key, index);
+            }
+            return index;
+        }
     }
 
     private static class ContentValuesReadable implements Readable {
 
         @NonNull
         private final ContentValues mValues;
+        @NonNls
+        @NonNull
+        private final List<String> mIndices = new ArrayList<>();
 
         private ContentValuesReadable(@NonNull final ContentValues values) {
             super();
@@ -182,6 +222,34 @@ public final class Readables {
                     Maybes.<Double>nothing();
         }
 
+        @Override
+        public final int indexOf(@NonNls @NonNull final String key) {
+            final String escaped = escape(key);
+            int index = mIndices.indexOf(escaped);
+            if ((index < 0) && mValues.containsKey(escaped)) {
+                index = mIndices.size();
+                mIndices.add(escaped);
+            }
+            return index;
+        }
+
+        @Override
+        public final boolean isNull(final int index) {
+            return mValues.get(mIndices.get(index)) == null;
+        }
+
+        @Override
+        public final long readLong(final int index) {
+            final Long value = mValues.getAsLong(mIndices.get(index));
+            return (value == null) ? 0L : value;
+        }
+
+        @Override
+        public final double readDouble(final int index) {
+            final Double value = mValues.getAsDouble(mIndices.get(index));
+            return (value == null) ? 0.0 : value;
+        }
+
         @NonNull
         @Override
         public final Set<String> getKeys() {
@@ -252,6 +320,26 @@ public final class Readables {
             return mReadable.getAsDouble(key);
         }
 
+        @Override
+        public final int indexOf(@NonNls @NonNull final String key) {
+            return mReadable.indexOf(key);
+        }
+
+        @Override
+        public final boolean isNull(final int index) {
+            return mReadable.isNull(index);
+        }
+
+        @Override
+        public final long readLong(final int index) {
+            return mReadable.readLong(index);
+        }
+
+        @Override
+        public final double readDouble(final int index) {
+            return mReadable.readDouble(index);
+        }
+
         @NonNull
         @Override
         public final Set<String> getKeys() {
@@ -336,6 +424,35 @@ public final class Readables {
             return result;
         }
 
+        @Override
+        public final int indexOf(@NonNls @NonNull final String key) {
+            int result = mFirst.indexOf(key);
+            if (result < 0) {
+                result = mSecond.indexOf(key);
+                if (result >= 0) {
+                    result = (result << 1) | 1;
+                }
+            } else {
+                result <<= 1;
+            }
+            return result;
+        }
+
+        @Override
+        public final boolean isNull(final int index) {
+            return ((index & 1) == 0) ? mFirst.isNull(index >> 1) : mSecond.isNull(index >> 1);
+        }
+
+        @Override
+        public final long readLong(final int index) {
+            return ((index & 1) == 0) ? mFirst.readLong(index >> 1) : mSecond.readLong(index >> 1);
+        }
+
+        @Override
+        public final double readDouble(final int index) {
+            return ((index & 1) == 0) ? mFirst.readDouble(index >> 1) : mSecond.readDouble(index >> 1);
+        }
+
         @NonNull
         @Override
         public final Set<String> getKeys() {
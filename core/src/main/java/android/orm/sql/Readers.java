@@ -16,12 +16,16 @@
 
 package android.orm.sql;
 
+import android.orm.sql.fragment.Keyset;
+import android.orm.util.Consumer;
 import android.orm.util.Function;
 import android.orm.util.Maybe;
 import android.orm.util.Maybes;
 import android.orm.util.Producer;
 import android.orm.util.Producers;
+import android.orm.util.Stream;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.util.Log;
 import android.util.Pair;
 import android.util.SparseArray;
@@ -33,6 +37,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import static android.orm.util.Maybes.something;
@@ -124,6 +129,38 @@ public final class Readers {
         };
     }
 
+    @NonNull
+    public static <V> Reader.Collection<Stream<V>> stream(@NonNls @NonNull final String name,
+                                                          @NonNull final Reader.Element.Create<V> element) {
+        return new Streaming<>(name, element);
+    }
+
+    @NonNull
+    public static <V> Reader.Collection<Integer> chunks(@NonNls @NonNull final String name,
+                                                        @NonNull final Reader.Element.Create<V> element,
+                                                        final int size,
+                                                        @NonNull final Consumer<List<V>> consumer) {
+        return new Chunks<>(name, element, size, consumer);
+    }
+
+    @NonNull
+    public static <V> Reader.Collection<Keyset.Page<V>> page(@NonNls @NonNull final String name,
+                                                             @NonNull final Reader.Element.Create<V> element,
+                                                             @NonNull final Keyset keyset,
+                                                             final int size) {
+        return new Paging<>(name, element, keyset, size);
+    }
+
+    public static boolean isStreaming(@NonNull final Reader<?> reader) {
+        return (reader instanceof Streaming) ||
+                ((reader instanceof Conversion) && isStreaming(((Conversion<?, ?>) reader).mReader));
+    }
+
+    public static boolean isCacheable(@NonNull final Reader<?> reader) {
+        return !(reader instanceof Streaming) && !(reader instanceof Chunks) &&
+                (!(reader instanceof Conversion) || isCacheable(((Conversion<?, ?>) reader).mReader));
+    }
+
     @NonNull
     public static <V, T> Reader.Collection<Pair<V, T>> compose(@NonNull final Reader.Collection<V> first,
                                                                @NonNull final Reader.Collection<T> second) {
@@ -237,6 +274,232 @@ public final class Readers {
         }
     }
 
+    private static class Streaming<V> extends Reader.Collection.Base<Stream<V>> {
+
+        @NonNls
+        @NonNull
+        private final String mName;
+        @NonNull
+        private final Reader.Element.Create<V> mElement;
+
+        private Streaming(@NonNls @NonNull final String name,
+                          @NonNull final Reader.Element.Create<V> element) {
+            super();
+
+            mName = name;
+            mElement = element;
+        }
+
+        @NonNull
+        @Override
+        public final Select.Projection getProjection() {
+            return mElement.getProjection();
+        }
+
+        @NonNull
+        @Override
+        public final Producer<Maybe<Stream<V>>> read(@NonNull final Readable input) {
+            if (Log.isLoggable(TAG, DEBUG)) {
+                Log.d(TAG, "Streaming rows for " + mName); //NON-NLS
+            }
+
+            final Stream<V> stream = new ReadableStream<>(input, mElement);
+            return Producers.constant(something(stream));
+        }
+    }
+
+    private static class ReadableStream<V> implements Stream<V> {
+
+        @NonNull
+        private final Readable mInput;
+        @NonNull
+        private final Reader.Element<V> mElement;
+
+        @Nullable
+        private V mNext;
+        private boolean mStarted = false;
+        private boolean mClosed = false;
+
+        private ReadableStream(@NonNull final Readable input,
+                               @NonNull final Reader.Element<V> element) {
+            super();
+
+            mInput = input;
+            mElement = element;
+        }
+
+        @Override
+        public final boolean hasNext() {
+            while ((mNext == null) && !mClosed) {
+                final boolean moved = mStarted ? mInput.next() : mInput.start();
+                mStarted = true;
+                if (moved) {
+                    mNext = mElement.read(mInput).produce().getOrElse(null);
+                } else {
+                    close();
+                }
+            }
+
+            return mNext != null;
+        }
+
+        @NonNull
+        @Override
+        public final V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final V result = mNext;
+            mNext = null;
+            return result;
+        }
+
+        @Override
+        public final void remove() {
+            throw new UnsupportedOperationException("Rows cannot be removed from a stream");
+        }
+
+        @Override
+        public final void close() {
+            if (!mClosed) {
+                mClosed = true;
+                mInput.close();
+            }
+        }
+    }
+
+    private static class Chunks<V> extends Reader.Collection.Base<Integer> {
+
+        @NonNls
+        @NonNull
+        private final String mName;
+        @NonNull
+        private final Reader.Element.Create<V> mElement;
+        private final int mSize;
+        @NonNull
+        private final Consumer<List<V>> mConsumer;
+
+        private Chunks(@NonNls @NonNull final String name,
+                       @NonNull final Reader.Element.Create<V> element,
+                       final int size,
+                       @NonNull final Consumer<List<V>> consumer) {
+            super();
+
+            if (size <= 0) {
+                throw new IllegalArgumentException("Chunk size must be positive");
+            }
+
+            mName = name;
+            mElement = element;
+            mSize = size;
+            mConsumer = consumer;
+        }
+
+        @NonNull
+        @Override
+        public final Select.Projection getProjection() {
+            return mElement.getProjection();
+        }
+
+        @NonNull
+        @Override
+        public final Producer<Maybe<Integer>> read(@NonNull final Readable input) {
+            int count = 0;
+            List<V> chunk = new ArrayList<>(mSize);
+
+            if (input.start()) {
+                do {
+                    final V model = mElement.read(input).produce().getOrElse(null);
+                    if (model != null) {
+                        chunk.add(model);
+                        count++;
+                        if (chunk.size() >= mSize) {
+                            mConsumer.consume(chunk);
+                            chunk = new ArrayList<>(mSize);
+                        }
+                    }
+                } while (input.next());
+            }
+
+            if (!chunk.isEmpty()) {
+                mConsumer.consume(chunk);
+            }
+
+            if (Log.isLoggable(TAG, DEBUG)) {
+                Log.d(TAG, "Rows delivered for " + mName + ": " + count); //NON-NLS
+            }
+
+            return Producers.constant(something(count));
+        }
+    }
+
+    private static class Paging<V> extends Reader.Collection.Base<Keyset.Page<V>> {
+
+        @NonNls
+        @NonNull
+        private final String mName;
+        @NonNull
+        private final Reader.Element.Create<V> mElement;
+        @NonNull
+        private final Keyset mKeyset;
+        private final int mSize;
+        @NonNull
+        private final Select.Projection mProjection;
+
+        private Paging(@NonNls @NonNull final String name,
+                       @NonNull final Reader.Element.Create<V> element,
+                       @NonNull final Keyset keyset,
+                       final int size) {
+            super();
+
+            if (size <= 0) {
+                throw new IllegalArgumentException("Page size must be positive");
+            }
+
+            mName = name;
+            mElement = element;
+            mKeyset = keyset;
+            mSize = size;
+            mProjection = element.getProjection().and(keyset.getProjection());
+        }
+
+        @NonNull
+        @Override
+        public final Select.Projection getProjection() {
+            return mProjection;
+        }
+
+        @NonNull
+        @Override
+        public final Producer<Maybe<Keyset.Page<V>>> read(@NonNull final Readable input) {
+            final List<V> items = new ArrayList<>(mSize);
+            int rows = 0;
+            Keyset.Token last = null;
+            boolean more = false;
+
+            if (input.start()) {
+                do {
+                    final V model = mElement.read(input).produce().getOrElse(null);
+                    if (model != null) {
+                        items.add(model);
+                    }
+                    rows++;
+                    last = mKeyset.read(input);
+                } while ((rows < mSize) && input.next());
+                /* pages are queried with one extra row that only tells whether another page follows */
+                more = (rows == mSize) && input.next();
+            }
+
+            if (Log.isLoggable(TAG, DEBUG)) {
+                Log.d(TAG, "Rows in page for " + mName + ": " + rows); //NON-NLS
+            }
+
+            final Keyset.Page<V> page = new Keyset.Page<>(items, more ? last : null);
+            return Producers.constant(something(page));
+        }
+    }
+
     private static class Composition<V, T> extends Reader.Collection.Base<Pair<V, T>> {
 
         @NonNull
@@ -18,7 +18,10 @@ package android.orm.sql;
 
 import android.database.Cursor;
 import android.database.SQLException;
+import android.database.sqlite.SQLiteCursor;
+import android.database.sqlite.SQLiteCursorDriver;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteQuery;
 import android.orm.sql.fragment.Limit;
 import android.orm.sql.fragment.Offset;
 import android.orm.sql.fragment.Order;
@@ -31,11 +34,13 @@ import android.util.Log;
 import org.jetbrains.annotations.NonNls;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static android.orm.sql.Helper.escape;
 import static android.orm.sql.Readables.readable;
@@ -45,8 +50,14 @@ import static java.util.Collections.singletonMap;
 
 public class Select {
 
+    public static final int MAX_SHAPES = 64;
+
     private static final String TAG = Select.class.getSimpleName();
 
+    private static final ConcurrentMap<Shape, Template> sShapes = new ConcurrentHashMap<>(MAX_SHAPES);
+    private static final AtomicLong sDistinctShapes = new AtomicLong();
+    private static final AtomicLong sTick = new AtomicLong();
+
     @NonNls
     @NonNull
     private final String mTable;
@@ -73,9 +84,57 @@ public class Select {
         mOffset = offset;
     }
 
+    @NonNls
+    @NonNull
+    public final String getTable() {
+        return mTable;
+    }
+
+    @NonNull
+    public final Object[] getArguments() {
+        final Object[] arguments = mPredicate.getArguments();
+        final Object[] result;
+
+        final int extra = ((mLimit == null) ? 0 : 1) + ((mOffset == null) ? 0 : 1);
+        if (extra == 0) {
+            result = arguments;
+        } else {
+            result = new Object[arguments.length + extra];
+            System.arraycopy(arguments, 0, result, 0, arguments.length);
+            int index = arguments.length;
+            if (mLimit != null) {
+                result[index] = mLimit.getAmount();
+                index++;
+            }
+            if (mOffset != null) {
+                result[index] = mOffset.getAmount();
+            }
+        }
+
+        return result;
+    }
+
+    @NonNls
+    @NonNull
+    public final String toSQL(@Nullable final Projection projection) {
+        return toSQL(projection, mTable, mPredicate, mOrder, mLimit, mOffset);
+    }
+
+    @NonNull
+    public final Predicate getPredicate() {
+        return mPredicate;
+    }
+
     @Nullable
     public final Readable execute(@NonNull final Projection projection,
                                   @NonNull final SQLiteDatabase database) {
+        final Cursor cursor = query(projection, database);
+        return (cursor == null) ? null : readable(cursor);
+    }
+
+    @Nullable
+    public final Cursor query(@NonNull final Projection projection,
+                              @NonNull final SQLiteDatabase database) {
         @org.jetbrains.annotations.Nullable final Cursor cursor;
 
         if (projection.isEmpty()) {
@@ -85,15 +144,24 @@ public class Select {
             cursor = null;
         } else {
             final String sql = toSQL(projection, mTable, mPredicate, mOrder, mLimit, mOffset);
-            cursor = database.rawQuery(sql, null);
+            cursor = query(database, sql, getArguments());
         }
 
-        return (cursor == null) ? null : readable(cursor);
+        return cursor;
     }
 
     @NonNull
     public final Readable execute(@NonNull final SQLiteDatabase database) {
-        return readable(database.rawQuery(toSQL(null, mTable, mPredicate, mOrder, mLimit, mOffset), null));
+        final String sql = toSQL(null, mTable, mPredicate, mOrder, mLimit, mOffset);
+        return readable(query(database, sql, getArguments()));
+    }
+
+    public static long getDistinctShapes() {
+        return sDistinctShapes.get();
+    }
+
+    public static int getCachedShapes() {
+        return sShapes.size();
     }
 
     @NonNull
@@ -101,6 +169,15 @@ public class Select {
         return new Builder(table);
     }
 
+    @NonNull
+    public static Select select(@NonNls @NonNull final String table,
+                                @NonNull final Predicate predicate,
+                                @Nullable final Order order,
+                                @Nullable final Limit limit,
+                                @Nullable final Offset offset) {
+        return new Select(table, predicate, order, limit, offset);
+    }
+
     @NonNull
     public static Projection projection(@NonNull final Column<?> column) {
         return projection(column.getName(), null);
@@ -109,8 +186,8 @@ public class Select {
     @NonNull
     public static Projection projection(@NonNls @NonNull final String name,
                                         @NonNls @Nullable final String value) {
-        return ((value != null) && escape(name).equals(value)) ?
-                Projection.Base.create(Collections.<String, String>singletonMap(name, null)) :
+        return ((value == null) || escape(name).equals(value)) ?
+                Catalog.projection(name) :
                 Projection.Base.create(singletonMap(name, value));
     }
 
@@ -165,6 +242,15 @@ public class Select {
         }
     }
 
+    @NonNull
+    private static Cursor query(@NonNull final SQLiteDatabase database,
+                                @NonNls @NonNull final String sql,
+                                @NonNull final Object[] arguments) {
+        return (arguments.length > 0) ?
+                database.rawQueryWithFactory(new Arguments(arguments), sql, null, null) :
+                database.rawQuery(sql, null);
+    }
+
     @NonNls
     @NonNull
     private static String toSQL(@Nullable final Projection projection,
@@ -173,35 +259,200 @@ public class Select {
                                 @Nullable final Order order,
                                 @Nullable final Limit limit,
                                 @Nullable final Offset offset) {
-        @NonNls final StringBuilder result = new StringBuilder();
+        final Shape shape = new Shape(
+                projection,
+                table,
+                predicate.toSQL(),
+                (order == null) ? null : order.toSQL(),
+                limit != null,
+                offset != null
+        );
+        Template template = sShapes.get(shape);
+
+        if (template == null) {
+            final Template created = new Template(shape.toSQL());
+            template = sShapes.putIfAbsent(shape, created);
+            if (template == null) {
+                template = created;
+                sDistinctShapes.incrementAndGet();
+                while (sShapes.size() > MAX_SHAPES) {
+                    evict();
+                }
+            }
+        }
+        template.mUsed = sTick.incrementAndGet();
 
-        result.append("select ");
-        if (projection == null) {
-            result.append('*');
-        } else {
-            for (final String element : projection.asArray()) {
-                result.append(element).append(", ");
+        return template.mSQL;
+    }
+
+    private static void evict() {
+        Map.Entry<Shape, Template> oldest = null;
+
+        for (final Map.Entry<Shape, Template> entry : sShapes.entrySet()) {
+            if ((oldest == null) || (entry.getValue().mUsed < oldest.getValue().mUsed)) {
+                oldest = entry;
             }
-            final int length = result.length();
-            result.delete(length - 2, length);
         }
-        result.append('\n');
 
-        result.append("from ").append(table);
-        if (!predicate.isEmpty()) {
-            result.append('\n').append("where ").append(predicate.toSQL());
+        if (oldest != null) {
+            sShapes.remove(oldest.getKey(), oldest.getValue());
         }
-        if (order != null) {
-            result.append('\n').append("order by ").append(order.toSQL());
+    }
+
+    private static class Arguments implements SQLiteDatabase.CursorFactory {
+
+        @NonNull
+        private final Object[] mArguments;
+
+        private Arguments(@NonNull final Object[] arguments) {
+            super();
+
+            mArguments = arguments;
         }
-        if (limit != null) {
-            result.append('\n').append("limit ").append(limit.toSQL());
+
+        @SuppressWarnings("deprecation")
+        @Override
+        public final Cursor newCursor(final SQLiteDatabase database,
+                                      final SQLiteCursorDriver driver,
+                                      final String table,
+                                      final SQLiteQuery query) {
+            for (int i = 0; i < mArguments.length; i++) {
+                final Object argument = mArguments[i];
+                final int index = i + 1;
+                if (argument instanceof byte[]) {
+                    query.bindBlob(index, (byte[]) argument);
+                } else if ((argument instanceof Double) || (argument instanceof Float)) {
+                    query.bindDouble(index, ((Number) argument).doubleValue());
+                } else if (argument instanceof Number) {
+                    query.bindLong(index, ((Number) argument).longValue());
+                } else {
+                    query.bindString(index, argument.toString());
+                }
+            }
+
+            return new SQLiteCursor(database, driver, table, query);
         }
-        if (offset != null) {
-            result.append('\n').append("offset ").append(offset.toSQL());
+    }
+
+    private static final class Template {
+
+        @NonNls
+        @NonNull
+        private final String mSQL;
+        private volatile long mUsed;
+
+        private Template(@NonNls @NonNull final String sql) {
+            super();
+
+            mSQL = sql;
         }
+    }
+
+    private static final class Shape {
 
-        return result.toString();
+        @Nullable
+        private final Projection mProjection;
+        @NonNls
+        @NonNull
+        private final String mTable;
+        @NonNls
+        @Nullable
+        private final String mWhere;
+        @NonNls
+        @Nullable
+        private final String mOrder;
+        private final boolean mLimit;
+        private final boolean mOffset;
+        private final int mHashCode;
+
+        private Shape(@Nullable final Projection projection,
+                      @NonNls @NonNull final String table,
+                      @NonNls @Nullable final String where,
+                      @NonNls @Nullable final String order,
+                      final boolean limit,
+                      final boolean offset) {
+            super();
+
+            mProjection = projection;
+            mTable = table;
+            mWhere = where;
+            mOrder = order;
+            mLimit = limit;
+            mOffset = offset;
+
+            int hashCode = (projection == null) ? 0 : projection.hashCode();
+            hashCode = (31 * hashCode) + table.hashCode();
+            hashCode = (31 * hashCode) + hashCode(where);
+            hashCode = (31 * hashCode) + hashCode(order);
+            hashCode = (31 * hashCode) + (limit ? 1 : 0);
+            hashCode = (31 * hashCode) + (offset ? 1 : 0);
+            mHashCode = hashCode;
+        }
+
+        @NonNls
+        @NonNull
+        public final String toSQL() {
+            @NonNls final StringBuilder result = new StringBuilder();
+
+            result.append("select ");
+            if (mProjection == null) {
+                result.append('*');
+            } else {
+                for (final String element : mProjection.asArray()) {
+                    result.append(element).append(", ");
+                }
+                final int length = result.length();
+                result.delete(length - 2, length);
+            }
+            result.append('\n');
+
+            result.append("from ").append(mTable);
+            if (mWhere != null) {
+                result.append('\n').append("where ").append(mWhere);
+            }
+            if (mOrder != null) {
+                result.append('\n').append("order by ").append(mOrder);
+            }
+            if (mLimit) {
+                result.append('\n').append("limit ?");
+            }
+            if (mOffset) {
+                result.append('\n').append("offset ?");
+            }
+
+            return result.toString();
+        }
+
+        @Override
+        public final boolean equals(@Nullable final Object object) {
+            boolean result = this == object;
+
+            if (!result && (object != null) && (getClass() == object.getClass())) {
+                final Shape other = (Shape) object;
+                result = (mHashCode == other.mHashCode) &&
+                        (mLimit == other.mLimit) &&
+                        (mOffset == other.mOffset) &&
+                        equals(mProjection, other.mProjection) &&
+                        equals(mTable, other.mTable) &&
+                        equals(mWhere, other.mWhere) &&
+                        equals(mOrder, other.mOrder);
+            }
+
+            return result;
+        }
+
+        @Override
+        public final int hashCode() {
+            return mHashCode;
+        }
+
+        private static int hashCode(@Nullable final String value) {
+            return (value == null) ? 0 : value.hashCode();
+        }
+
+        private static boolean equals(@Nullable final Object value1, @Nullable final Object value2) {
+            return (value1 == value2) || ((value1 != null) && value1.equals(value2));
+        }
     }
 
     public interface Projection {
@@ -266,41 +517,63 @@ public class Select {
             @NonNull
             @Override
             public final Projection and(@NonNull final Projection other) {
-                final Map<String, String> projection1 = asMap();
-                final Map<String, String> projection2 = other.asMap();
-                check(projection1, projection2);
+                final Projection result;
 
-                final Map<String, String> projection = new HashMap<>(projection1.size() + projection2.size());
-                projection.putAll(projection1);
-                projection.putAll(projection2);
+                if ((this instanceof Catalog.Bits) && (other instanceof Catalog.Bits)) {
+                    result = Catalog.union((Catalog.Bits) this, (Catalog.Bits) other);
+                } else if (other.isEmpty()) {
+                    result = this;
+                } else {
+                    final Map<String, String> projection1 = asMap();
+                    final Map<String, String> projection2 = other.asMap();
+                    check(projection1, projection2);
+
+                    final Map<String, String> projection = new HashMap<>(projection1.size() + projection2.size());
+                    projection.putAll(projection1);
+                    projection.putAll(projection2);
+
+                    result = create(projection);
+                }
 
-                return create(projection);
+                return result;
             }
 
             @NonNull
             @Override
             public final Projection without(@NonNull final Projection other) {
-                final Map<String, String> projection1 = asMap();
-                final Map<String, String> projection2 = other.asMap();
-                check(projection1, projection2);
+                final Projection result;
+
+                if ((this instanceof Catalog.Bits) && (other instanceof Catalog.Bits)) {
+                    result = Catalog.difference((Catalog.Bits) this, (Catalog.Bits) other);
+                } else if (other.isEmpty()) {
+                    result = this;
+                } else {
+                    final Map<String, String> projection1 = asMap();
+                    final Map<String, String> projection2 = other.asMap();
+                    check(projection1, projection2);
 
-                final Map<String, String> projection = new HashMap<>(projection1);
-                for (final String name : projection2.keySet()) {
-                    projection.remove(name);
+                    final Map<String, String> projection = new HashMap<>(projection1);
+                    for (final String name : projection2.keySet()) {
+                        projection.remove(name);
+                    }
+
+                    result = create(projection);
                 }
 
-                return create(projection);
+                return result;
             }
 
             @NonNull
             @Override
             public final Projection without(@NonNull final Set<String> names) {
-                final Map<String, String> projection1 = asMap();
                 final Projection result;
 
                 if (names.isEmpty()) {
                     result = this;
+                } else if (this instanceof Catalog.Bits) {
+                    result = Catalog.without((Catalog.Bits) this, names);
                 } else {
+                    final Map<String, String> projection1 = asMap();
                     final Map<String, String> projection = new HashMap<>(projection1);
                     for (final String name : projection1.keySet()) {
                         if (names.contains(name) || names.contains(escape(name))) {
@@ -337,29 +610,71 @@ public class Select {
 
             @NonNull
             private static Projection create(@NonNull final Map<String, String> projection) {
-                return projection.isEmpty() ?
-                        Nothing :
-                        new Base() {
-
-                            private final Lazy<String[]> mArray = projectionAsArray(projection);
-
-                            @Override
-                            public boolean isEmpty() {
-                                return false;
-                            }
-
-                            @NonNull
-                            @Override
-                            public String[] asArray() {
-                                return mArray.get();
-                            }
-
-                            @NonNull
-                            @Override
-                            public Map<String, String> asMap() {
-                                return projection;
-                            }
-                        };
+                final Projection result;
+
+                if (projection.isEmpty()) {
+                    result = Nothing;
+                } else if (isPlain(projection)) {
+                    result = Catalog.projection(projection.keySet());
+                } else {
+                    result = new Mapped(projection);
+                }
+
+                return result;
+            }
+
+            private static boolean isPlain(@NonNull final Map<String, String> projection) {
+                boolean result = true;
+
+                for (final Map.Entry<String, String> entry : projection.entrySet()) {
+                    @NonNls final String value = entry.getValue();
+                    result = result && ((value == null) || escape(entry.getKey()).equals(value));
+                }
+
+                return result;
+            }
+
+            private static final class Mapped extends Base {
+
+                @NonNull
+                private final Map<String, String> mProjection;
+                @NonNull
+                private final Lazy<String[]> mArray;
+
+                private Mapped(@NonNull final Map<String, String> projection) {
+                    super();
+
+                    mProjection = projection;
+                    mArray = projectionAsArray(projection);
+                }
+
+                @Override
+                public boolean isEmpty() {
+                    return false;
+                }
+
+                @NonNull
+                @Override
+                public String[] asArray() {
+                    return mArray.get();
+                }
+
+                @NonNull
+                @Override
+                public Map<String, String> asMap() {
+                    return mProjection;
+                }
+
+                @Override
+                public boolean equals(@Nullable final Object object) {
+                    return (this == object) ||
+                            ((object instanceof Mapped) && mProjection.equals(((Mapped) object).mProjection));
+                }
+
+                @Override
+                public int hashCode() {
+                    return mProjection.hashCode();
+                }
             }
 
             @NonNull
@@ -74,6 +74,7 @@ public class Table<K> extends Value.ReadWrite.Base<Map<String, Object>> {
         mUniqueKeys = new HashSet<>(uniqueKeys);
         mPrimaryKey = primaryKey;
 
+        Catalog.register(columns);
         Select.Projection projection = null;
         for (final Column<?> column : columns) {
             projection = (projection == null) ?
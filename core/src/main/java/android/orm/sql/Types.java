@@ -22,6 +22,7 @@ import android.net.Uri;
 import android.orm.util.Converter;
 import android.orm.util.Legacy;
 import android.orm.util.Maybe;
+import android.orm.util.Maybes;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.util.Log;
@@ -117,7 +118,10 @@ public final class Types {
         @Override
         public Maybe<Long> read(@NonNull final Readable input,
                                 @NonNls @NonNull final String name) {
-            return input.getAsLong(name);
+            final int index = input.indexOf(name);
+            return (index < 0) ?
+                    Maybes.<Long>nothing() :
+                    something(input.isNull(index) ? null : input.readLong(index));
         }
 
         @Override
@@ -154,7 +158,10 @@ public final class Types {
         @Override
         public Maybe<Double> read(@NonNull final Readable input,
                                   @NonNls @NonNull final String name) {
-            return input.getAsDouble(name);
+            final int index = input.indexOf(name);
+            return (index < 0) ?
+                    Maybes.<Double>nothing() :
+                    something(input.isNull(index) ? null : input.readDouble(index));
         }
 
         @Override
@@ -165,25 +172,48 @@ public final class Types {
         }
     };
 
-    public static final Type<Boolean> Bool = Integer.map(
-            new Converter<Boolean, Long>() {
+    public static final Type<Boolean> Bool = new Type.Base<Boolean>(Type.Primitive.Integer) {
 
-                private static final long False = 0L;
-                private static final long True = 1L;
+        private static final long False = 0L;
+        private static final long True = 1L;
 
-                @NonNull
-                @Override
-                public Long from(@NonNull final Boolean value) {
-                    return value ? True : False;
-                }
+        @NonNull
+        @Override
+        public Boolean fromString(@NonNls @NonNull final String value) {
+            return parseLong(value) != False;
+        }
 
-                @NonNull
-                @Override
-                public Boolean to(@NonNull final Long value) {
-                    return value != False;
-                }
-            }
-    );
+        @NonNls
+        @NonNull
+        @Override
+        public String toString(@NonNull final Boolean value) {
+            return String.valueOf(value ? True : False);
+        }
+
+        @NonNls
+        @NonNull
+        @Override
+        public String escape(@NonNull final Boolean value) {
+            return toString(value);
+        }
+
+        @NonNull
+        @Override
+        public Maybe<Boolean> read(@NonNull final Readable input,
+                                   @NonNls @NonNull final String name) {
+            final int index = input.indexOf(name);
+            return (index < 0) ?
+                    Maybes.<Boolean>nothing() :
+                    something(input.isNull(index) ? null : (input.readLong(index) != False));
+        }
+
+        @Override
+        public void write(@NonNull final Writable output,
+                          @NonNls @NonNull final String name,
+                          @NonNull final Boolean value) {
+            output.put(name, value ? True : False);
+        }
+    };
 
     public static final Type<BigInteger> BigInteger = Text.map(
             new Converter<BigInteger, String>() {
@@ -20,6 +20,7 @@ import android.database.SQLException;
 import android.orm.sql.Value;
 import android.orm.util.Maybe;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import org.jetbrains.annotations.NonNls;
 
@@ -43,6 +44,23 @@ public final class Validations {
         }
     };
 
+    public static boolean isUpdateable(@Nullable final Validation<?> validation) {
+        final boolean result;
+
+        if (validation == null) {
+            result = true;
+        } else if (validation == NonUpdateable) {
+            result = false;
+        } else if (validation instanceof Composition) {
+            final Composition<?> composition = (Composition<?>) validation;
+            result = isUpdateable(composition.mFirst) && isUpdateable(composition.mSecond);
+        } else {
+            result = true;
+        }
+
+        return result;
+    }
+
     @NonNull
     public static <V> Validation<V> convert(@NonNull final android.orm.util.Validation<? super V> validation) {
         return new Conversion<>(validation);
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.sql.fragment;
+
+import android.database.SQLException;
+import android.orm.sql.Column;
+import android.orm.sql.Readable;
+import android.orm.sql.Select;
+import android.orm.util.Maybe;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import org.jetbrains.annotations.NonNls;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static android.orm.sql.Helper.escape;
+
+public class Keyset {
+
+    @NonNull
+    private final Column<?>[] mColumns;
+    @NonNull
+    private final Order.Type mType;
+    @NonNull
+    private final Order mOrder;
+    @NonNull
+    private final Select.Projection mProjection;
+
+    public Keyset(@NonNull final Order.Type type, @NonNull final Column<?>... columns) {
+        super();
+
+        if (columns.length <= 0) {
+            throw new IllegalArgumentException("Keyset needs at least one column");
+        }
+
+        mColumns = columns.clone();
+        mType = type;
+
+        Order order = Order.order(columns[0], type);
+        Select.Projection projection = columns[0].getProjection();
+        for (int i = 1; i < columns.length; i++) {
+            order = order.andThen(Order.order(columns[i], type));
+            projection = projection.and(columns[i].getProjection());
+        }
+        mOrder = order;
+        mProjection = projection;
+    }
+
+    @NonNull
+    public final Order getOrder() {
+        return mOrder;
+    }
+
+    @NonNull
+    public final Select.Projection getProjection() {
+        return mProjection;
+    }
+
+    @NonNull
+    public final Predicate after(@Nullable final Token token) {
+        final Predicate result;
+
+        if (token == null) {
+            result = Predicate.None;
+        } else {
+            if (token.mValues.length != mColumns.length) {
+                throw new IllegalArgumentException("Token does not belong to this keyset");
+            }
+
+            @NonNls final String comparison = (mType == Order.Type.Ascending) ? " > ?" : " < ?";
+            @NonNls final StringBuilder sql = new StringBuilder();
+            final List<Object> arguments = new ArrayList<>();
+
+            for (int i = 0; i < mColumns.length; i++) {
+                if (i > 0) {
+                    sql.append(" or ");
+                }
+                sql.append('(');
+                for (int j = 0; j < i; j++) {
+                    sql.append(escape(mColumns[j].getName())).append(" = ? and ");
+                    arguments.add(token.mValues[j]);
+                }
+                sql.append(escape(mColumns[i].getName())).append(comparison).append(')');
+                arguments.add(token.mValues[i]);
+            }
+
+            result = new Predicate(sql.toString(), arguments.toArray());
+        }
+
+        return result;
+    }
+
+    @NonNull
+    public final Token read(@NonNull final Readable input) {
+        final Object[] values = new Object[mColumns.length];
+
+        for (int i = 0; i < mColumns.length; i++) {
+            @NonNls final String name = mColumns[i].getName();
+            final Maybe<?> value;
+            switch (mColumns[i].getType().getPrimitive()) {
+                case Integer:
+                    value = input.getAsLong(name);
+                    break;
+                case Real:
+                    value = input.getAsDouble(name);
+                    break;
+                default:
+                    value = input.getAsString(name);
+                    break;
+            }
+
+            values[i] = value.getOrElse(null);
+            if (values[i] == null) {
+                throw new SQLException("Keyset column " + name + " is missing or null");
+            }
+        }
+
+        return new Token(values);
+    }
+
+    public static final class Token {
+
+        @NonNull
+        private final Object[] mValues;
+
+        private Token(@NonNull final Object[] values) {
+            super();
+
+            mValues = values;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object object) {
+            boolean result = this == object;
+
+            if (!result && (object != null) && (getClass() == object.getClass())) {
+                result = Arrays.equals(mValues, ((Token) object).mValues);
+            }
+
+            return result;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(mValues);
+        }
+    }
+
+    public static class Page<M> implements Iterable<M> {
+
+        @NonNull
+        private final List<M> mItems;
+        @Nullable
+        private final Token mNext;
+
+        public Page(@NonNull final List<M> items, @Nullable final Token next) {
+            super();
+
+            mItems = Collections.unmodifiableList(items);
+            mNext = next;
+        }
+
+        @NonNull
+        public final List<M> getItems() {
+            return mItems;
+        }
+
+        @Nullable
+        public final Token getNext() {
+            return mNext;
+        }
+
+        public final boolean hasNext() {
+            return mNext != null;
+        }
+
+        @NonNull
+        @Override
+        public final Iterator<M> iterator() {
+            return mItems.iterator();
+        }
+    }
+}
@@ -33,7 +33,9 @@ import android.support.annotation.Nullable;
 
 import org.jetbrains.annotations.NonNls;
 
-import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static android.orm.sql.Types.Integer;
@@ -44,45 +46,83 @@ import static android.orm.util.Maybes.something;
 
 public class Predicate implements Fragment {
 
+    private static final Object[] NO_ARGUMENTS = {};
+    private static final char PLACEHOLDER = '?';
     @NonNls
-    private static final MessageFormat NOT = new MessageFormat("not ({0})");
-    @NonNls
-    private static final MessageFormat AND = new MessageFormat("({0}) and ({1})");
-    @NonNls
-    private static final MessageFormat OR = new MessageFormat("({0}) or ({1})");
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
 
     public static final Predicate None = new Predicate(null);
     public static final Predicate Fail = new Predicate("0 <> 0");
 
+    @Nullable
+    private final Operator mOperator;
+    @Nullable
+    private final Predicate mLeft;
+    @Nullable
+    private final Predicate mRight;
+
     @NonNls
     @Nullable
-    private final String mSQL;
+    private volatile String mSQL;
+    @NonNull
+    private volatile Object[] mArguments;
 
     public Predicate(@NonNls @Nullable final String sql) {
+        this(sql, NO_ARGUMENTS, false);
+    }
+
+    public Predicate(@NonNls @Nullable final String sql, @NonNull final Object... arguments) {
+        this(sql, arguments, true);
+    }
+
+    private Predicate(@NonNls @Nullable final String sql,
+                      @NonNull final Object[] arguments,
+                      final boolean check) {
         super();
 
+        mOperator = null;
+        mLeft = null;
+        mRight = null;
         mSQL = sql;
+        if (check && (arguments.length > 0)) {
+            mArguments = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                mArguments[i] = toArgument(arguments[i]);
+            }
+        } else {
+            mArguments = arguments;
+        }
+    }
+
+    private Predicate(@NonNull final Operator operator,
+                      @NonNull final Predicate left,
+                      @Nullable final Predicate right) {
+        super();
+
+        mOperator = operator;
+        mLeft = left;
+        mRight = right;
+        mSQL = null;
+        mArguments = NO_ARGUMENTS;
     }
 
     public final boolean isEmpty() {
-        return mSQL == null;
+        return (mOperator == null) && (mSQL == null);
     }
 
     @NonNull
     public final Predicate not() {
-        return (mSQL == null) ? None : new Predicate(NOT.format(new String[]{mSQL}));
+        return isEmpty() ? None : new Predicate(Operator.Not, this, null);
     }
 
     @NonNull
     public final Predicate and(@NonNull final Predicate other) {
         final Predicate result;
 
-        if (mSQL == null) {
-            result = (other.mSQL == null) ? None : other;
+        if (isEmpty()) {
+            result = other.isEmpty() ? None : other;
         } else {
-            result = (other.mSQL == null) ?
-                    this :
-                    new Predicate(AND.format(new String[]{mSQL, other.mSQL}));
+            result = other.isEmpty() ? this : new Predicate(Operator.And, this, other);
         }
 
         return result;
@@ -92,12 +132,10 @@ public class Predicate implements Fragment {
     public final Predicate or(@NonNull final Predicate other) {
         final Predicate result;
 
-        if (mSQL == null) {
-            result = (other.mSQL == null) ? None : other;
+        if (isEmpty()) {
+            result = other.isEmpty() ? None : other;
         } else {
-            result = (other.mSQL == null) ?
-                    this :
-                    new Predicate(OR.format(new String[]{mSQL, other.mSQL}));
+            result = other.isEmpty() ? this : new Predicate(Operator.Or, this, other);
         }
 
         return result;
@@ -107,9 +145,150 @@ public class Predicate implements Fragment {
     @Nullable
     @Override
     public final String toSQL() {
+        render();
         return mSQL;
     }
 
+    @NonNull
+    public final Object[] getArguments() {
+        render();
+        final Object[] arguments = mArguments;
+        return (arguments.length > 0) ? arguments.clone() : arguments;
+    }
+
+    @NonNls
+    @Nullable
+    public final String toSelection() {
+        return inline(true);
+    }
+
+    @NonNls
+    @Nullable
+    public final String[] getSelectionArgs() {
+        final String[] result;
+
+        render();
+        final Object[] arguments = mArguments;
+        int count = 0;
+        for (final Object argument : arguments) {
+            if (!(argument instanceof byte[])) {
+                count++;
+            }
+        }
+
+        if (count > 0) {
+            result = new String[count];
+            int index = 0;
+            for (final Object argument : arguments) {
+                if (!(argument instanceof byte[])) {
+                    result[index] = argument.toString();
+                    index++;
+                }
+            }
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    @NonNls
+    @Nullable
+    public final String toInlinedSQL() {
+        return inline(false);
+    }
+
+    @NonNls
+    @Nullable
+    private String inline(final boolean blobs) {
+        final String result;
+
+        render();
+        @NonNls final String sql = mSQL;
+        final Object[] arguments = mArguments;
+        if ((sql == null) || (arguments.length <= 0) || (blobs && !hasBlobs(arguments))) {
+            result = sql;
+        } else {
+            final int length = sql.length();
+            final StringBuilder builder = new StringBuilder(length);
+            int argument = 0;
+            char quote = 0;
+
+            for (int i = 0; i < length; i++) {
+                final char c = sql.charAt(i);
+                if (quote == 0) {
+                    if ((c == '\'') || (c == '"')) {
+                        quote = c;
+                        builder.append(c);
+                    } else if ((c == PLACEHOLDER) && (argument < arguments.length)) {
+                        final Object value = arguments[argument];
+                        if (blobs && !(value instanceof byte[])) {
+                            builder.append(c);
+                        } else {
+                            builder.append(literal(value));
+                        }
+                        argument++;
+                    } else {
+                        builder.append(c);
+                    }
+                } else {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                    builder.append(c);
+                }
+            }
+
+            result = builder.toString();
+        }
+
+        return result;
+    }
+
+    private void render() {
+        if ((mOperator != null) && (mSQL == null)) {
+            final StringBuilder sql = new StringBuilder();
+            final List<Object> arguments = new ArrayList<>();
+            render(sql, arguments);
+            mArguments = arguments.isEmpty() ? NO_ARGUMENTS : arguments.toArray();
+            mSQL = sql.toString();
+        }
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private void render(@NonNls @NonNull final StringBuilder sql, @NonNull final List<Object> arguments) {
+        final String rendered = mSQL;
+
+        if ((rendered != null) || (mOperator == null)) {
+            sql.append(rendered);
+            Collections.addAll(arguments, mArguments);
+        } else if (mOperator == Operator.Not) {
+            sql.append("not (");
+            mLeft.render(sql, arguments);
+            sql.append(')');
+        } else {
+            final List<Predicate> pending = new ArrayList<>();
+            pending.add(this);
+            boolean first = true;
+
+            while (!pending.isEmpty()) {
+                final Predicate current = pending.remove(pending.size() - 1);
+                if (current.mOperator == mOperator) {
+                    pending.add(current.mRight);
+                    pending.add(current.mLeft);
+                } else {
+                    if (!first) {
+                        sql.append(' ').append(mOperator.toSQL()).append(' ');
+                    }
+                    sql.append('(');
+                    current.render(sql, arguments);
+                    sql.append(')');
+                    first = false;
+                }
+            }
+        }
+    }
+
     @NonNull
     public static <V> SimplePart<V> on(@NonNull final Column<V> column) {
         return on(column.getName(), column.getType());
@@ -208,152 +387,111 @@ public class Predicate implements Fragment {
 
         @NonNull
         public final Predicate isEqualTo(@NonNull final V value) {
-            return isEqualTo(escape(value));
+            return new Predicate(mEscapedName + " = ?", argument(value));
         }
 
         @NonNull
         public final Predicate isEqualTo(@NonNull final Column<V> column) {
-            return isEqualTo(escape(column));
+            return new Predicate(mEscapedName + " = " + escape(column));
         }
 
         @NonNull
         public final Predicate isNotEqualTo(@NonNull final V value) {
-            return isNotEqualTo(escape(value));
+            return new Predicate(mEscapedName + " <> ?", argument(value));
         }
 
         @NonNull
         public final Predicate isNotEqualTo(@NonNull final Column<V> column) {
-            return isNotEqualTo(escape(column));
+            return new Predicate(mEscapedName + " <> " + escape(column));
         }
 
         @NonNull
         public final Predicate isLessThan(@NonNull final V value) {
-            return isLessThan(escape(value));
+            return new Predicate(mEscapedName + " < ?", argument(value));
         }
 
         @NonNull
         public final Predicate isLessThan(@NonNull final Column<V> column) {
-            return isLessThan(escape(column));
+            return new Predicate(mEscapedName + " < " + escape(column));
         }
 
         @NonNull
         public final Predicate isLessOrEqualThan(@NonNull final V value) {
-            return isLessOrEqualThan(escape(value));
+            return new Predicate(mEscapedName + " <= ?", argument(value));
         }
 
         @NonNull
         public final Predicate isLessOrEqualThan(@NonNull final Column<V> column) {
-            return isLessOrEqualThan(escape(column));
+            return new Predicate(mEscapedName + " <= " + escape(column));
         }
 
         @NonNull
         public final Predicate isGreaterThan(@NonNull final V value) {
-            return isGreaterThan(escape(value));
+            return new Predicate(mEscapedName + " > ?", argument(value));
         }
 
         @NonNull
         public final Predicate isGreaterThan(@NonNull final Column<V> column) {
-            return isGreaterThan(escape(column));
+            return new Predicate(mEscapedName + " > " + escape(column));
         }
 
         @NonNull
         public final Predicate isGreaterOrEqualThan(@NonNull final V value) {
-            return isGreaterOrEqualThan(escape(value));
+            return new Predicate(mEscapedName + " >= ?", argument(value));
         }
 
         @NonNull
         public final Predicate isGreaterOrEqualThan(@NonNull final Column<V> column) {
-            return isGreaterOrEqualThan(escape(column));
+            return new Predicate(mEscapedName + " >= " + escape(column));
         }
 
         @NonNull
         public final Predicate isBetween(@NonNull final V min, @NonNull final V max) {
-            return isBetween(escape(min), escape(max));
+            return new Predicate(mEscapedName + " between ? and ?", argument(min), argument(max));
         }
 
         @NonNull
         public final Predicate isBetween(@NonNull final Column<V> min, @NonNull final V max) {
-            return isBetween(escape(min), escape(max));
+            return new Predicate(mEscapedName + " between " + escape(min) + " and ?", argument(max));
         }
 
         @NonNull
         public final Predicate isBetween(@NonNull final V min, @NonNull final Column<V> max) {
-            return isBetween(escape(min), escape(max));
+            return new Predicate(mEscapedName + " between ? and " + escape(max), argument(min));
         }
 
         @NonNull
         public final Predicate isBetween(@NonNull final Column<V> min,
                                          @NonNull final Column<V> max) {
-            return isBetween(escape(min), escape(max));
+            return new Predicate(mEscapedName + " between " + escape(min) + " and " + escape(max));
         }
 
         @NonNull
         public final Predicate isNotBetween(@NonNull final V min, @NonNull final V max) {
-            return isNotBetween(escape(min), escape(max));
+            return new Predicate(mEscapedName + " not between ? and ?", argument(min), argument(max));
         }
 
         @NonNull
         public final Predicate isNotBetween(@NonNull final Column<V> min, @NonNull final V max) {
-            return isNotBetween(escape(min), escape(max));
+            return new Predicate(mEscapedName + " not between " + escape(min) + " and ?", argument(max));
         }
 
         @NonNull
         public final Predicate isNotBetween(@NonNull final V min, @NonNull final Column<V> max) {
-            return isNotBetween(escape(min), escape(max));
+            return new Predicate(mEscapedName + " not between ? and " + escape(max), argument(min));
         }
 
         @NonNull
         public final Predicate isNotBetween(@NonNull final Column<V> min,
                                             @NonNull final Column<V> max) {
-            return isNotBetween(escape(min), escape(max));
-        }
-
-        @NonNull
-        private Predicate isEqualTo(@NonNls @NonNull final String value) {
-            return new Predicate(mEscapedName + " = " + value);
-        }
-
-        @NonNull
-        private Predicate isNotEqualTo(@NonNls @NonNull final String value) {
-            return new Predicate(mEscapedName + " <> " + value);
+            return new Predicate(mEscapedName + " not between " + escape(min) + " and " + escape(max));
         }
 
         @NonNull
-        private Predicate isLessThan(@NonNls @NonNull final String value) {
-            return new Predicate(mEscapedName + " < " + value);
-        }
-
-        @NonNull
-        private Predicate isLessOrEqualThan(@NonNls @NonNull final String value) {
-            return new Predicate(mEscapedName + " <= " + value);
-        }
-
-        @NonNull
-        private Predicate isGreaterThan(@NonNls @NonNull final String value) {
-            return new Predicate(mEscapedName + " > " + value);
-        }
-
-        @NonNull
-        private Predicate isGreaterOrEqualThan(@NonNls @NonNull final String value) {
-            return new Predicate(mEscapedName + " >= " + value);
-        }
-
-        @NonNull
-        private Predicate isBetween(@NonNls @NonNull final String min,
-                                    @NonNls @NonNull final String max) {
-            return new Predicate(mEscapedName + " between " + min + " and " + max);
-        }
-
-        @NonNull
-        private Predicate isNotBetween(@NonNls @NonNull final String min,
-                                       @NonNls @NonNull final String max) {
-            return new Predicate(mEscapedName + " not between " + min + " and " + max);
-        }
-
-        @NonNls
-        @NonNull
-        protected String escape(@NonNull final V value) {
-            return mType.escape(value);
+        protected Object argument(@NonNull final V value) {
+            final Argument argument = new Argument();
+            mType.write(argument, mEscapedName, value);
+            return argument.get();
         }
 
         @NonNls
@@ -372,37 +510,37 @@ public class Predicate implements Fragment {
         public TextPart(@NonNls @NonNull final String name) {
             super(name, Text);
 
-            mEscapedName = escape(name);
+            mEscapedName = Helper.escape(name);
         }
 
         @NonNull
         public final Predicate isLike(@NonNull final String pattern) {
-            return new Predicate(mEscapedName + " like " + escape(pattern));
+            return new Predicate(mEscapedName + " like ?", pattern);
         }
 
         @NonNull
         public final Predicate isNotLike(@NonNull final String pattern) {
-            return new Predicate(mEscapedName + " not like " + escape(pattern));
+            return new Predicate(mEscapedName + " not like ?", pattern);
         }
 
         @NonNull
         public final Predicate isLikeGlob(@NonNull final String pattern) {
-            return new Predicate(mEscapedName + " glob " + escape(pattern));
+            return new Predicate(mEscapedName + " glob ?", pattern);
         }
 
         @NonNull
         public final Predicate isNotLikeGlob(@NonNull final String pattern) {
-            return new Predicate(mEscapedName + " not glob " + escape(pattern));
+            return new Predicate(mEscapedName + " not glob ?", pattern);
         }
 
         @NonNull
         public final Predicate isLikeRegexp(@NonNull final String pattern) {
-            return new Predicate(mEscapedName + " regexp " + escape(pattern));
+            return new Predicate(mEscapedName + " regexp ?", pattern);
         }
 
         @NonNull
         public final Predicate isNotLikeRegexp(@NonNull final String pattern) {
-            return new Predicate(mEscapedName + " not regexp " + escape(pattern));
+            return new Predicate(mEscapedName + " not regexp ?", pattern);
         }
     }
 
@@ -593,4 +731,121 @@ public class Predicate implements Fragment {
             }
         }
     }
+
+    private enum Operator implements Fragment {
+
+        Not("not"),
+        And("and"),
+        Or("or");
+
+        @NonNls
+        @NonNull
+        private final String mSQL;
+
+        Operator(@NonNls @NonNull final String sql) {
+            mSQL = sql;
+        }
+
+        @NonNls
+        @NonNull
+        @Override
+        public final String toSQL() {
+            return mSQL;
+        }
+    }
+
+    @NonNull
+    private static Object toArgument(@Nullable final Object value) {
+        final Object result;
+
+        if ((value instanceof Long) || (value instanceof Double) || (value instanceof String) || (value instanceof byte[])) {
+            result = value;
+        } else if ((value instanceof Integer) || (value instanceof Short) || (value instanceof Byte)) {
+            result = ((Number) value).longValue();
+        } else if (value instanceof Float) {
+            result = ((Number) value).doubleValue();
+        } else if (value instanceof Boolean) {
+            result = ((Boolean) value) ? 1L : 0L;
+        } else {
+            throw new IllegalArgumentException("Unsupported argument " + value);
+        }
+
+        return result;
+    }
+
+    private static boolean hasBlobs(@NonNull final Object... arguments) {
+        boolean result = false;
+
+        for (int i = 0; (i < arguments.length) && !result; i++) {
+            result = arguments[i] instanceof byte[];
+        }
+
+        return result;
+    }
+
+    @NonNls
+    @NonNull
+    private static String literal(@NonNull final Object argument) {
+        final String result;
+
+        if (argument instanceof String) {
+            result = Text.escape((String) argument);
+        } else if (argument instanceof byte[]) {
+            final byte[] bytes = (byte[]) argument;
+            final char[] chars = new char[bytes.length * 2];
+            for (int i = 0; i < bytes.length; i++) {
+                chars[2 * i] = HEX[(bytes[i] >> 4) & 0x0F];
+                chars[(2 * i) + 1] = HEX[bytes[i] & 0x0F];
+            }
+            result = "X'" + new String(chars) + '\''; //NON-NLS
+        } else {
+            result = argument.toString();
+        }
+
+        return result;
+    }
+
+    private static class Argument implements Writable {
+
+        @Nullable
+        private Object mValue;
+
+        @NonNull
+        public final Object get() {
+            if (mValue == null) {
+                throw new IllegalArgumentException("Value was not written");
+            }
+
+            return mValue;
+        }
+
+        @Override
+        public final void putNull(@NonNls @NonNull final String key) {
+            throw new IllegalArgumentException("Null cannot be bound as an argument");
+        }
+
+        @Override
+        public final void put(@NonNls @NonNull final String key, @NonNull final String value) {
+            mValue = value;
+        }
+
+        @Override
+        public final void put(@NonNls @NonNull final String key, @NonNull final Long value) {
+            mValue = value;
+        }
+
+        @Override
+        public final void put(@NonNls @NonNull final String key, @NonNull final Double value) {
+            mValue = value;
+        }
+
+        @Override
+        public final void putAll(@NonNull final ContentValues values) {
+            if (values.size() != 1) {
+                throw new IllegalArgumentException("Exactly one value must be written");
+            }
+
+            mValue = toArgument(values.valueSet().iterator().next().getValue());
+        }
+    }
 }
@@ -72,7 +72,7 @@ public class Check implements Constraint {
 
     @NonNull
     public static Check that(@NonNull final Predicate predicate) {
-        final String expression = predicate.toSQL();
+        final String expression = predicate.toInlinedSQL();
         if (expression == null) {
             throw new IllegalArgumentException("Predicate cannot be None");
         }
@@ -17,64 +17,125 @@
 package android.orm.util;
 
 import android.support.annotation.NonNull;
-import android.util.Log;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.lang.Math.min;
 
 public abstract class ObjectPool<E> {
 
-    private static final String TAG = ObjectPool.class.getSimpleName();
-    private static final int START_CAPACITY = 10;
-    private static final int MAX_SIZE = 100;
+    public static final int DEFAULT_MAX_SIZE = 100;
+
+    private static final int STRIPE_SIZE = 8;
+
+    private static volatile boolean sStatistics = false;
+
+    private final int mMaxSize;
+    private final int mStripes;
+    private final AtomicReferenceArray<Receipt<E>> mReceipts;
+    private final AtomicIntegerArray mOccupied;
 
-    private final Semaphore mSemaphore = new Semaphore(1);
-    private final List<Receipt<E>> mReceipts = new ArrayList<>(START_CAPACITY);
+    private final AtomicLong mHits = new AtomicLong();
+    private final AtomicLong mMisses = new AtomicLong();
+    private final AtomicLong mCreated = new AtomicLong();
 
     protected ObjectPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    protected ObjectPool(final int maxSize) {
         super();
+
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Max size cannot be negative");
+        }
+
+        mMaxSize = maxSize;
+        mStripes = (maxSize + STRIPE_SIZE - 1) / STRIPE_SIZE;
+        mReceipts = new AtomicReferenceArray<>(maxSize);
+        mOccupied = new AtomicIntegerArray(mStripes);
     }
 
     @NonNull
     protected abstract E produce(@NonNull final Receipt<E> receipt);
 
+    public static void setStatisticsEnabled(final boolean enabled) {
+        sStatistics = enabled;
+    }
+
+    public final int getMaxSize() {
+        return mMaxSize;
+    }
+
+    public final long getHits() {
+        return mHits.get();
+    }
+
+    public final long getMisses() {
+        return mMisses.get();
+    }
+
+    public final long getCreated() {
+        return mCreated.get();
+    }
+
     @NonNull
     public final E borrow() {
-        Receipt<E> result;
-
-        try {
-            mSemaphore.acquire();
-            try {
-                result = mReceipts.isEmpty() ?
-                        new LazyReceipt<>(this) :
-                        mReceipts.remove(mReceipts.size() - 1);
-            } finally {
-                mSemaphore.release();
+        Receipt<E> result = null;
+
+        final int start = start();
+        for (int i = 0; (i < mStripes) && (result == null); i++) {
+            final int stripe = (start + i) % mStripes;
+            if (mOccupied.get(stripe) > 0) {
+                final int end = min(stripe * STRIPE_SIZE + STRIPE_SIZE, mMaxSize);
+                for (int index = stripe * STRIPE_SIZE; (index < end) && (result == null); index++) {
+                    if (mReceipts.get(index) != null) {
+                        result = mReceipts.getAndSet(index, null);
+                    }
+                }
+                if (result != null) {
+                    mOccupied.decrementAndGet(stripe);
+                }
+            }
+        }
+
+        if (result == null) {
+            if (sStatistics) {
+                mMisses.incrementAndGet();
             }
-        } catch (final InterruptedException ex) {
-            Log.w(TAG, "Interrupted while borrowing an element from the object pool! Will borrow a new element", ex); //NON-NLS
             result = new LazyReceipt<>(this);
+        } else if (sStatistics) {
+            mHits.incrementAndGet();
         }
 
         return result.get();
     }
 
     private void yield(@NonNull final Receipt<E> receipt) {
-        try {
-            mSemaphore.acquire();
-            try {
-                if (mReceipts.size() < MAX_SIZE) {
-                    mReceipts.add(receipt);
+        boolean returned = false;
+
+        final int start = start();
+        for (int i = 0; (i < mStripes) && !returned; i++) {
+            final int stripe = (start + i) % mStripes;
+            final int end = min(stripe * STRIPE_SIZE + STRIPE_SIZE, mMaxSize);
+            if (mOccupied.get(stripe) < (end - stripe * STRIPE_SIZE)) {
+                for (int index = stripe * STRIPE_SIZE; (index < end) && !returned; index++) {
+                    returned = (mReceipts.get(index) == null) && mReceipts.compareAndSet(index, null, receipt);
+                }
+                if (returned) {
+                    mOccupied.incrementAndGet(stripe);
                 }
-            } finally {
-                mSemaphore.release();
             }
-        } catch (final InterruptedException ex) {
-            Log.w(TAG, "Interrupted while returning an element to the object pool! Will not return the element", ex); //NON-NLS
         }
     }
 
+    private int start() {
+        final long id = Thread.currentThread().getId();
+        return (mStripes > 0) ? (int) (((id * 0x9E3779B97F4A7C15L) >>> 33) % mStripes) : 0;
+    }
+
     public interface Receipt<E> {
 
         @NonNull
@@ -97,6 +158,9 @@ public abstract class ObjectPool<E> {
         @NonNull
         @Override
         protected final E produce() {
+            if (sStatistics) {
+                mPool.mCreated.incrementAndGet();
+            }
             return mPool.produce(this);
         }
 
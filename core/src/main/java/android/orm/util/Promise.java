@@ -21,39 +21,23 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.util.Log;
 
-import org.jetbrains.annotations.NonNls;
-
-import java.util.LinkedList;
-import java.util.List;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static android.orm.util.Futures.deliver;
 
 public class Promise<V> {
 
     private static final String TAG = Promise.class.getSimpleName();
-    @NonNls
-    private static final String COMPLETION_INTERRUPTED = "Completion of promise interrupted";
-
-    @Nullable
-    private V mValue;
-    @Nullable
-    private Throwable mError;
-    @Nullable
-    private final List<Future.Callback<V>> mCallbacks = new LinkedList<>();
 
-    private final Semaphore mSemaphore = new Semaphore(1);
+    /* null (pending), a single Future.Callback, a stack of Nodes or a Completion */
+    private final AtomicReference<Object> mState = new AtomicReference<>();
 
     @NonNull
     private final Future<V> mFuture = new PromisedFuture<V>() {
         @Override
         public void onComplete(@Nullable final Handler handler,
                                @NonNull final Future.Callback<? super V> callback) {
-            try {
-                register(deliver(handler, callback));
-            } catch (final InterruptedException ex) {
-                Log.e(TAG, "Registering callback with future interrupted", ex); //NON-NLS
-            }
+            register(deliver(handler, callback));
         }
     };
 
@@ -62,75 +46,119 @@ public class Promise<V> {
         return mFuture;
     }
 
-    @SuppressWarnings("unchecked")
     public final void success(@NonNull final V value) {
-        try {
-            final Future.Callback<V>[] callbacks;
-
-            mSemaphore.acquire();
-            try {
-                mError = null;
-                mValue = value;
-                callbacks = mCallbacks.toArray(new Future.Callback[mCallbacks.size()]);
-            } finally {
-                mSemaphore.release();
+        complete(new Completion<>(value, null));
+    }
+
+    public final void failure(@NonNull final Throwable error) {
+        complete(new Completion<V>(null, error));
+    }
+
+    public final void completeWith(@NonNull final Future<? extends V> future) {
+        future.onComplete(null, new Completer<>(this));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(@NonNull final Completion<V> completion) {
+        Object state;
+
+        do {
+            state = mState.get();
+            if (state instanceof Completion) {
+                if (Log.isLoggable(TAG, Log.DEBUG)) {
+                    Log.d(TAG, "Promise has been already completed"); //NON-NLS
+                }
+                return;
             }
+        } while (!mState.compareAndSet(state, completion));
 
-            for (final Future.Callback<V> callback : callbacks) {
-                callback.onResult(value);
+        if (state instanceof Node) {
+            Node<V> node = Node.reverse((Node<V>) state);
+            while (node != null) {
+                completion.deliver(node.mCallback);
+                node = node.mNext;
             }
-        } catch (final InterruptedException ex) {
-            Log.e(TAG, COMPLETION_INTERRUPTED, ex);
+        } else if (state != null) {
+            completion.deliver((Future.Callback<V>) state);
         }
     }
 
-    public final void failure(@NonNull final Throwable error) {
-        try {
-            final Future.Callback<?>[] callbacks;
-
-            mSemaphore.acquire();
-            try {
-                mError = error;
-                mValue = null;
-                callbacks = mCallbacks.toArray(new Future.Callback<?>[mCallbacks.size()]);
-            } finally {
-                mSemaphore.release();
+    @SuppressWarnings("unchecked")
+    private void register(@NonNull final Future.Callback<V> callback) {
+        Object state;
+        Object next;
+
+        do {
+            state = mState.get();
+            if (state instanceof Completion) {
+                ((Completion<V>) state).deliver(callback);
+                return;
             }
 
-            for (final Future.Callback<?> callback : callbacks) {
-                callback.onError(error);
+            if (state == null) {
+                next = callback;
+            } else if (state instanceof Node) {
+                next = new Node<>(callback, (Node<V>) state);
+            } else {
+                next = new Node<>(callback, new Node<>((Future.Callback<V>) state, null));
             }
-        } catch (final InterruptedException ex) {
-            Log.e(TAG, COMPLETION_INTERRUPTED, ex);
-        }
+        } while (!mState.compareAndSet(state, next));
     }
 
-    public final void completeWith(@NonNull final Future<? extends V> future) {
-        future.onComplete(null, new Completer<>(this));
-    }
+    private static class Completion<V> {
+
+        @Nullable
+        private final V mValue;
+        @Nullable
+        private final Throwable mError;
+
+        private Completion(@Nullable final V value, @Nullable final Throwable error) {
+            super();
 
-    private void register(@NonNull final Future.Callback<V> callback) throws InterruptedException {
-        Throwable error;
-        V value;
-
-        mSemaphore.acquire();
-        try {
-            error = mError;
-            value = mValue;
-            mCallbacks.add(callback);
-        } finally {
-            mSemaphore.release();
+            mValue = value;
+            mError = error;
         }
 
-        if ((error != null) || (value != null)) {
-            if (error == null) {
-                callback.onResult(value);
+        @SuppressWarnings("ConstantConditions")
+        public final void deliver(@NonNull final Future.Callback<V> callback) {
+            if (mError == null) {
+                callback.onResult(mValue);
             } else {
-                callback.onError(error);
+                callback.onError(mError);
             }
         }
     }
 
+    private static class Node<V> {
+
+        @NonNull
+        private final Future.Callback<V> mCallback;
+        @Nullable
+        private Node<V> mNext;
+
+        private Node(@NonNull final Future.Callback<V> callback, @Nullable final Node<V> next) {
+            super();
+
+            mCallback = callback;
+            mNext = next;
+        }
+
+        @NonNull
+        public static <V> Node<V> reverse(@NonNull final Node<V> head) {
+            Node<V> result = null;
+            Node<V> current = head;
+
+            while (current != null) {
+                final Node<V> next = current.mNext;
+                current.mNext = result;
+                result = current;
+                current = next;
+            }
+
+            return result;
+        }
+    }
+
     private abstract static class PromisedFuture<V> extends Future<V> {
 
         @NonNull
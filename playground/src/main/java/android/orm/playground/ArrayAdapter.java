@@ -19,33 +19,94 @@ package android.orm.playground;
 import android.content.Context;
 import android.orm.DAO;
 import android.orm.dao.Result;
+import android.orm.remote.watch.Diff;
 import android.orm.remote.watch.Watchable;
 import android.orm.util.Maybe;
 import android.support.annotation.NonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 public class ArrayAdapter<V> extends android.widget.ArrayAdapter<V> {
 
+    @NonNull
+    private final List<V> mItems;
+
     public <C extends Collection<V>> ArrayAdapter(@NonNull final Context context,
                                                   final int layout,
                                                   final int textView,
                                                   @NonNull final Watchable<C> access) {
-        super(context, layout, textView);
+        this(context, layout, textView, new ArrayList<V>());
 
         access.andOnChange(new Result.Callback<Collection<V>>() {
             @Override
             public void onResult(@NonNull final Maybe<Collection<V>> values) {
-                setNotifyOnChange(false);
-                clear();
+                mItems.clear();
                 if (values.isSomething()) {
-                    addAll(values.get());
+                    mItems.addAll(values.get());
                 }
                 notifyDataSetChanged();
             }
         });
     }
 
+    private ArrayAdapter(@NonNull final Context context,
+                         final int layout,
+                         final int textView,
+                         @NonNull final List<V> items) {
+        super(context, layout, textView, items);
+
+        mItems = items;
+    }
+
+    @NonNull
+    public static <V> ArrayAdapter<V> diffed(@NonNull final Context context,
+                                             final int layout,
+                                             final int textView,
+                                             @NonNull final Watchable<Diff<V>> access) {
+        final ArrayAdapter<V> adapter = new ArrayAdapter<>(context, layout, textView, new ArrayList<V>());
+
+        access.andOnChange(new Result.Callback<Diff<V>>() {
+            @Override
+            public void onResult(@NonNull final Maybe<Diff<V>> diff) {
+                if (diff.isSomething() && !diff.get().isEmpty()) {
+                    adapter.apply(diff.get());
+                }
+            }
+        });
+
+        return adapter;
+    }
+
+    private void apply(@NonNull final Diff<V> diff) {
+        final int[] removals = concat(diff.getRemoved(), diff.getMovedFrom());
+        for (int i = removals.length - 1; i >= 0; i--) {
+            mItems.remove(removals[i]);
+        }
+
+        final List<V> current = diff.getCurrent();
+        for (final int position : concat(diff.getInserted(), diff.getMovedTo())) {
+            mItems.add(position, current.get(position));
+        }
+
+        for (final int position : diff.getChanged()) {
+            mItems.set(position, current.get(position));
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @NonNull
+    private static int[] concat(@NonNull final int[] first, @NonNull final int[] second) {
+        final int[] result = new int[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        Arrays.sort(result);
+        return result;
+    }
+
     public interface Factory<M> {
         @NonNull
         ArrayAdapter<M> create(@NonNull final Context context, @NonNull final DAO.Async dao);
@@ -143,16 +143,21 @@ public abstract class Direct implements Reactive.Direct {
         @NonNull
         @Override
         public final <V> Maybe<V> execute(@NonNull final Transaction.Direct<V> transaction) {
-            return mDAO.execute(new android.orm.dao.Transaction.Direct<V>() {
+            final Notifier.Delayed notifier = new Notifier.Delayed(mResolver);
+            final Maybe<V> result = mDAO.execute(new android.orm.dao.Transaction.Direct<V>() {
                 @NonNull
                 @Override
                 public Maybe<V> run(@NonNull final DAO.Direct dao) throws android.orm.dao.Transaction.Rollback {
-                    final Notifier.Delayed notifier = new Notifier.Delayed(mResolver);
-                    final Maybe<V> result = transaction.run(new InsideTransaction(dao, notifier));
-                    notifier.sendAll();
-                    return result;
+                    try {
+                        return transaction.run(new InsideTransaction(dao, notifier));
+                    } catch (final android.orm.dao.Transaction.Rollback rollback) {
+                        notifier.discard();
+                        throw rollback;
+                    }
                 }
             });
+            notifier.sendAll();
+            return result;
         }
     }
 }
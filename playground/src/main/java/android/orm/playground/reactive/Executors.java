@@ -18,6 +18,7 @@ package android.orm.playground.reactive;
 
 import android.net.Uri;
 import android.orm.dao.Executor;
+import android.orm.dao.Keys;
 import android.orm.sql.Reader;
 import android.orm.sql.Writer;
 import android.orm.sql.fragment.Predicate;
@@ -134,6 +135,20 @@ public final class Executors {
             return result;
         }
 
+        @NonNull
+        @Override
+        public final Maybe<Keys<Uri>> insertAll(@NonNull final Iterable<? extends Writer> writers,
+                                                final int chunk) {
+            final Maybe<Keys<Uri>> result = mExecutor.insertAll(writers, chunk);
+            if (result.isSomething()) {
+                final Keys<Uri> uris = result.get();
+                if ((uris != null) && !uris.isEmpty()) {
+                    notifyChange();
+                }
+            }
+            return result;
+        }
+
         @NonNull
         @Override
         public final Maybe<Integer> delete(@NonNull final Predicate predicate) {
@@ -18,11 +18,9 @@ package android.orm.playground.reactive;
 
 import android.content.ContentResolver;
 import android.net.Uri;
+import android.orm.remote.provider.Notifications;
 import android.support.annotation.NonNull;
 
-import java.util.HashSet;
-import java.util.Set;
-
 public interface Notifier {
 
     void notifyChange(@NonNull final Uri uri);
@@ -49,7 +47,7 @@ public interface Notifier {
         @NonNull
         private final ContentResolver mResolver;
 
-        private final Set<Uri> mUris = new HashSet<>();
+        private final Notifications mNotifications = new Notifications();
 
         public Delayed(@NonNull final ContentResolver resolver) {
             super();
@@ -59,13 +57,15 @@ public interface Notifier {
 
         @Override
         public final void notifyChange(@NonNull final Uri uri) {
-            mUris.add(uri);
+            mNotifications.add(uri);
         }
 
         public final void sendAll() {
-            for (final Uri uri : mUris) {
-                mResolver.notifyChange(uri, null);
-            }
+            mNotifications.send(mResolver);
+        }
+
+        public final void discard() {
+            mNotifications.discard();
         }
     }
 }
@@ -28,7 +28,9 @@ import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 import android.net.Uri;
 import android.orm.Database;
+import android.orm.dao.Changes;
 import android.orm.remote.provider.Match;
+import android.orm.remote.provider.Notifications;
 import android.orm.sql.fragment.Limit;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
@@ -56,6 +58,14 @@ public class ContentProvider extends android.content.ContentProvider {
     @NonNull
     private final Route.Manager[] mManagers;
 
+    private final ThreadLocal<Notifications> mNotifications = new ThreadLocal<Notifications>() {
+        @NonNull
+        @Override
+        protected Notifications initialValue() {
+            return new Notifications();
+        }
+    };
+
     @NonNull
     private Database.Helper mHelper;
     @NonNull
@@ -138,18 +148,42 @@ public class ContentProvider extends android.content.ContentProvider {
         if (database.inTransaction()) {
             result = insert(database, uri, values);
         } else {
-            database.beginTransaction();
+            boolean successful = false;
+            begin(database);
             try {
                 result = insert(database, uri, values);
                 database.setTransactionSuccessful();
+                successful = true;
             } finally {
-                database.endTransaction();
+                end(database, successful);
             }
         }
 
         return result;
     }
 
+    @Override
+    public final int bulkInsert(@NonNls @NonNull final Uri uri, @NonNull final ContentValues[] values) {
+        final int inserted;
+
+        final SQLiteDatabase database = getDatabase(mHelper, true);
+        if (database.inTransaction()) {
+            inserted = insert(database, uri, values);
+        } else {
+            boolean successful = false;
+            begin(database);
+            try {
+                inserted = insert(database, uri, values);
+                database.setTransactionSuccessful();
+                successful = true;
+            } finally {
+                end(database, successful);
+            }
+        }
+
+        return inserted;
+    }
+
     @Override
     public final int update(@NonNls @NonNull final Uri uri,
                             @NonNull final ContentValues values,
@@ -161,12 +195,14 @@ public class ContentProvider extends android.content.ContentProvider {
         if (database.inTransaction()) {
             updated = update(database, uri, values, selection, arguments);
         } else {
-            database.beginTransaction();
+            boolean successful = false;
+            begin(database);
             try {
                 updated = update(database, uri, values, selection, arguments);
                 database.setTransactionSuccessful();
+                successful = true;
             } finally {
-                database.endTransaction();
+                end(database, successful);
             }
         }
 
@@ -183,12 +219,14 @@ public class ContentProvider extends android.content.ContentProvider {
         if (database.inTransaction()) {
             deleted = delete(database, uri, selection, arguments);
         } else {
-            database.beginTransaction();
+            boolean successful = false;
+            begin(database);
             try {
                 deleted = delete(database, uri, selection, arguments);
                 database.setTransactionSuccessful();
+                successful = true;
             } finally {
-                database.endTransaction();
+                end(database, successful);
             }
         }
 
@@ -210,14 +248,16 @@ public class ContentProvider extends android.content.ContentProvider {
         final ContentProviderResult[] results = new ContentProviderResult[size];
 
         final SQLiteDatabase database = getDatabase(mHelper, writable);
-        database.beginTransaction();
+        boolean successful = false;
+        begin(database);
         try {
             for (int i = 0; i < size; i++) {
                 results[i] = operations.get(i).apply(this, results, i);
             }
             database.setTransactionSuccessful();
+            successful = true;
         } finally {
-            database.endTransaction();
+            end(database, successful);
         }
 
         return results;
@@ -282,12 +322,27 @@ public class ContentProvider extends android.content.ContentProvider {
             if (Log.isLoggable(TAG, DEBUG)) {
                 Log.d(TAG, "Insert at " + uri + " was successful."); //NON-NLS
             }
-            mContentResolver.notifyChange(result, null);
+            mNotifications.get().changed(mContentResolver, result);
         }
 
         return result;
     }
 
+    private int insert(@NonNull final SQLiteDatabase database,
+                       @NonNls @NonNull final Uri uri,
+                       @NonNull final ContentValues... values) {
+        final int inserted = match(uri).insert(database, values);
+
+        if (Log.isLoggable(TAG, DEBUG)) {
+            Log.d(TAG, "Bulk insert at " + uri + " inserted " + inserted + " of " + values.length + " rows."); //NON-NLS
+        }
+        if (inserted > 0) {
+            mNotifications.get().changed(mContentResolver, uri);
+        }
+
+        return inserted;
+    }
+
     private int update(@NonNull final SQLiteDatabase database,
                        @NonNls @NonNull final Uri uri,
                        @NonNull final ContentValues values,
@@ -299,7 +354,7 @@ public class ContentProvider extends android.content.ContentProvider {
             if (Log.isLoggable(TAG, DEBUG)) {
                 Log.d(TAG, "Update at " + uri + " impacted " + updated + " rows."); //NON-NLS
             }
-            mContentResolver.notifyChange(uri, null);
+            mNotifications.get().changed(mContentResolver, uri);
         } else {
             if (Log.isLoggable(TAG, DEBUG)) {
                 Log.d(TAG, "Update at " + uri + " impacted no rows."); //NON-NLS
@@ -319,7 +374,7 @@ public class ContentProvider extends android.content.ContentProvider {
             if (Log.isLoggable(TAG, DEBUG)) {
                 Log.d(TAG, "Delete at " + uri + " removed " + deleted + " rows."); //NON-NLS
             }
-            mContentResolver.notifyChange(uri, null);
+            mNotifications.get().changed(mContentResolver, uri);
         } else {
             if (Log.isLoggable(TAG, DEBUG)) {
                 Log.d(TAG, "Delete at " + uri + " removed no rows."); //NON-NLS
@@ -329,6 +384,22 @@ public class ContentProvider extends android.content.ContentProvider {
         return deleted;
     }
 
+    private void begin(@NonNull final SQLiteDatabase database) {
+        database.beginTransaction();
+        mNotifications.get().begin();
+    }
+
+    private void end(@NonNull final SQLiteDatabase database, final boolean successful) {
+        database.endTransaction();
+
+        if (successful) {
+            Changes.commit(database);
+        } else {
+            Changes.rollback(database);
+        }
+        mNotifications.get().end(mContentResolver, successful);
+    }
+
     @NonNull
     private static SQLiteDatabase getDatabase(@NonNull final SQLiteOpenHelper helper,
                                               final boolean writable) {
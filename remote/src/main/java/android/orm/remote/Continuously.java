@@ -21,6 +21,8 @@ import android.net.Uri;
 import android.orm.dao.Result;
 import android.orm.model.Mapper;
 import android.orm.model.Reading;
+import android.orm.remote.watch.Diff;
+import android.orm.remote.watch.Differ;
 import android.orm.remote.watch.Executor;
 import android.orm.remote.watch.Observable;
 import android.orm.remote.watch.Observer;
@@ -31,8 +33,10 @@ import android.orm.remote.watch.executor.DispatcherPerObserverExecutor;
 import android.orm.remote.watch.executor.DispatcherPerTableExecutor;
 import android.orm.remote.watch.executor.DispatcherPerUriExecutor;
 import android.orm.remote.watch.executor.LimitedSizeExecutor;
+import android.orm.remote.watch.executor.SharedPoolExecutor;
 import android.orm.sql.AggregateFunction;
 import android.orm.sql.Value;
+import android.orm.sql.fragment.Keyset;
 import android.orm.sql.fragment.Limit;
 import android.orm.sql.fragment.Offset;
 import android.orm.sql.fragment.Order;
@@ -42,13 +46,16 @@ import android.orm.util.Lazy;
 import android.os.Handler;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.util.Pair;
 
 import org.jetbrains.annotations.NonNls;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static android.orm.model.Readings.list;
+import static android.orm.model.Readings.page;
 import static android.orm.model.Readings.single;
 import static android.orm.remote.dao.Executors.many;
 import static android.orm.remote.dao.Executors.single;
@@ -184,6 +191,15 @@ public class Continuously {
             }
         };
 
+        Lazy<Executor> SharedPool = new Lazy.Volatile<Executor>() {
+            @NonNull
+            @Override
+            protected Executor produce() {
+                final int processors = getRuntime().availableProcessors();
+                return new SharedPoolExecutor(2, processors);
+            }
+        };
+
         Lazy<Executor> Default = ThreadPerObserver;
     }
 
@@ -254,6 +270,34 @@ public class Continuously {
             public final <M> Query<M> watch(@NonNull final Reading.Many<M> reading) {
                 return new Query<>(this, mExecutor, mHandler, reading);
             }
+
+            @NonNull
+            public final <M> Query<Keyset.Page<M>> watch(@NonNull final Keyset keyset,
+                                                        @Nullable final Keyset.Token after,
+                                                        final int size,
+                                                        @NonNull final Value.Read<M> value) {
+                return watch(page(value, keyset, size)).after(keyset, after, size);
+            }
+
+            @NonNull
+            public final <M> Query<Keyset.Page<M>> watch(@NonNull final Keyset keyset,
+                                                        @Nullable final Keyset.Token after,
+                                                        final int size,
+                                                        @NonNull final Mapper.Read<M> mapper) {
+                return watch(page(mapper, keyset, size)).after(keyset, after, size);
+            }
+
+            @NonNull
+            public final <K, M> Diffing<M, K> watch(@NonNull final Value.Read<K> key,
+                                                   @NonNull final Value.Read<M> value) {
+                return new Diffing<>(this, mExecutor, mHandler, list(value.and(key)));
+            }
+
+            @NonNull
+            public final <K, M> Diffing<M, K> watch(@NonNull final Value.Read<K> key,
+                                                   @NonNull final Mapper.Read<M> mapper) {
+                return new Diffing<>(this, mExecutor, mHandler, list(mapper.and(key)));
+            }
         }
 
         public static class Query<M> implements Watchable<M> {
@@ -269,6 +313,8 @@ public class Continuously {
 
             @NonNull
             private Predicate mPredicate = Predicate.None;
+            @NonNull
+            private Predicate mAfter = Predicate.None;
             @Nullable
             private Order mOrder;
             @Nullable
@@ -277,6 +323,8 @@ public class Continuously {
             private Offset mOffset;
             @Nullable
             private M mModel;
+            private long mQuietPeriod = 0L;
+            private long mMaxLatency = 0L;
 
             public Query(@NonNull final Observable observable,
                          @NonNull final android.orm.dao.Executor.Direct<?, ?> executor,
@@ -320,10 +368,107 @@ public class Continuously {
                 return this;
             }
 
+            @NonNull
+            public final Query<M> debounce(final long quietPeriod,
+                                           final long maxLatency,
+                                           @NonNull final TimeUnit unit) {
+                mQuietPeriod = unit.toMillis(quietPeriod);
+                mMaxLatency = unit.toMillis(maxLatency);
+                return this;
+            }
+
             @NonNull
             @Override
             public final Cancelable andOnChange(@NonNull final Result.Callback<? super M> callback) {
-                return mObservable.onChange(new Watcher<>(mExecutor, mHandler, mModel, mReading, mPredicate, mOrder, mLimit, mOffset, callback));
+                final Predicate predicate = mPredicate.and(mAfter);
+                return mObservable.onChange(new Watcher<>(mExecutor, mHandler, mModel, mReading, predicate, mOrder, mLimit, mOffset, mQuietPeriod, mMaxLatency, callback));
+            }
+
+            @NonNull
+            private Query<M> after(@NonNull final Keyset keyset,
+                                   @Nullable final Keyset.Token token,
+                                   final int size) {
+                mAfter = keyset.after(token);
+                mOrder = keyset.getOrder();
+                mLimit = new Limit(size + 1);
+                mOffset = null;
+                return this;
+            }
+        }
+
+        public static class Diffing<M, K> implements Watchable<Diff<M>> {
+
+            @NonNull
+            private final Observable mObservable;
+            @NonNull
+            private final android.orm.dao.Executor.Direct<?, ?> mExecutor;
+            @NonNull
+            private final Handler mHandler;
+            @NonNull
+            private final Reading.Many<List<Pair<M, K>>> mReading;
+
+            @NonNull
+            private Predicate mPredicate = Predicate.None;
+            @Nullable
+            private Order mOrder;
+            @Nullable
+            private Limit mLimit;
+            @Nullable
+            private Offset mOffset;
+            private long mQuietPeriod = 0L;
+            private long mMaxLatency = 0L;
+
+            public Diffing(@NonNull final Observable observable,
+                           @NonNull final android.orm.dao.Executor.Direct<?, ?> executor,
+                           @NonNull final Handler handler,
+                           @NonNull final Reading.Many<List<Pair<M, K>>> reading) {
+                super();
+
+                mObservable = observable;
+                mExecutor = executor;
+                mHandler = handler;
+                mReading = reading;
+            }
+
+            @NonNull
+            public final Diffing<M, K> with(@Nullable final Predicate predicate) {
+                mPredicate = (predicate == null) ? Predicate.None : predicate;
+                return this;
+            }
+
+            @NonNull
+            public final Diffing<M, K> with(@Nullable final Order order) {
+                mOrder = order;
+                return this;
+            }
+
+            @NonNull
+            public final Diffing<M, K> with(@Nullable final Limit limit) {
+                mLimit = limit;
+                return this;
+            }
+
+            @NonNull
+            public final Diffing<M, K> with(@Nullable final Offset offset) {
+                mOffset = offset;
+                return this;
+            }
+
+            @NonNull
+            public final Diffing<M, K> debounce(final long quietPeriod,
+                                                final long maxLatency,
+                                                @NonNull final TimeUnit unit) {
+                mQuietPeriod = unit.toMillis(quietPeriod);
+                mMaxLatency = unit.toMillis(maxLatency);
+                return this;
+            }
+
+            @NonNull
+            @Override
+            @SuppressWarnings("unchecked")
+            public final Cancelable andOnChange(@NonNull final Result.Callback<? super Diff<M>> callback) {
+                final Result.Callback<Diff<M>> forward = (Result.Callback<Diff<M>>) callback;
+                return mObservable.onChange(new Differ<>(mExecutor, mHandler, mReading, mPredicate, mOrder, mLimit, mOffset, mQuietPeriod, mMaxLatency, forward));
             }
         }
 
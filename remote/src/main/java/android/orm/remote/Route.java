@@ -17,9 +17,9 @@
 package android.orm.remote;
 
 import android.content.ContentValues;
-import android.content.UriMatcher;
 import android.net.Uri;
 import android.orm.remote.route.Path;
+import android.orm.remote.route.Segment;
 import android.orm.sql.Column;
 import android.orm.sql.Readable;
 import android.orm.sql.Select;
@@ -27,28 +27,25 @@ import android.orm.sql.Value;
 import android.orm.sql.fragment.Limit;
 import android.orm.sql.fragment.Order;
 import android.orm.sql.fragment.Predicate;
-import android.orm.util.Function;
 import android.orm.util.Maybe;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import org.jetbrains.annotations.NonNls;
 
-import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static android.orm.remote.route.Paths.path;
 
 public abstract class Route extends Value.Read.Base<Uri> {
 
-    @NonNls
-    private static final MessageFormat URI_FORMAT = new MessageFormat("content://{0}/{1}");
-
     @NonNull
     private final Manager mManager;
     @NonNls
@@ -71,14 +68,6 @@ public abstract class Route extends Value.Read.Base<Uri> {
     @Nullable
     private final Limit mLimit;
 
-    private final Function<String, Uri> mUriFormat = new Function<String, Uri>() {
-        @NonNull
-        @Override
-        public Uri invoke(@NonNull final String path) {
-            return Uri.parse(URI_FORMAT.format(new String[]{mAuthority, path}));
-        }
-    };
-
     private Route(@NonNull final Manager manager,
                   @NonNls @NonNull final String table,
                   @NonNull final Predicate predicate,
@@ -95,7 +84,7 @@ public abstract class Route extends Value.Read.Base<Uri> {
         mPath = path;
 
         mAuthority = manager.getAuthority();
-        mName = URI_FORMAT.format(new String[]{mAuthority, path.toString()});
+        mName = "content://" + mAuthority + '/' + path;
         mProjection = path.getProjection();
     }
 
@@ -145,7 +134,7 @@ public abstract class Route extends Value.Read.Base<Uri> {
     @NonNull
     @Override
     public final Maybe<Uri> read(@NonNull final Readable input) {
-        return mPath.createConcretePath(input).map(mUriFormat);
+        return mPath.createUri(mAuthority, input);
     }
 
     @NonNull
@@ -160,7 +149,7 @@ public abstract class Route extends Value.Read.Base<Uri> {
 
     @NonNull
     public final Uri createUri(@NonNull final Object... arguments) {
-        return mUriFormat.invoke(mPath.createConcretePath(arguments));
+        return mPath.createUri(mAuthority, arguments);
     }
 
     @NonNls
@@ -229,10 +218,11 @@ public abstract class Route extends Value.Read.Base<Uri> {
         @NonNull
         private final String mAuthority;
 
-        private final ReadWriteLock mLock = new ReentrantReadWriteLock();
+        private final Lock mLock = new ReentrantLock();
         private final Collection<Path> mPaths = new HashSet<>();
-        private final List<Route> mRoutes = new ArrayList<>();
-        private final UriMatcher mMatcher = new UriMatcher(UriMatcher.NO_MATCH);
+
+        @NonNull
+        private volatile Trie mTrie = new Trie(Node.Empty);
 
         public Manager(@NonNls @NonNull final String authority) {
             super();
@@ -383,35 +373,137 @@ public abstract class Route extends Value.Read.Base<Uri> {
 
         @Nullable
         public final Route get(@NonNull final Uri uri) {
-            final int code = mMatcher.match(uri);
-            Route result = null;
-
-            if (code >= 0) {
-                mLock.readLock().lock();
-                try {
-                    result = mRoutes.get(code);
-                } finally {
-                    mLock.readLock().unlock();
-                }
-            }
-
-            return result;
+            return mAuthority.equals(uri.getAuthority()) ? mTrie.get(uri) : null;
         }
 
         private void with(@NonNull final Route route) {
             final Path path = route.getPath();
 
-            mLock.writeLock().lock();
+            mLock.lock();
             try {
                 if (mPaths.contains(path)) {
                     throw new IllegalArgumentException("A route with same path " + path + " has already been added!");
                 }
 
-                mMatcher.addURI(mAuthority, path.toString(), mRoutes.size());
+                mTrie = new Trie(mTrie.mRoot.with(path.getSegments(), 0, route));
                 mPaths.add(path);
-                mRoutes.add(route);
             } finally {
-                mLock.writeLock().unlock();
+                mLock.unlock();
+            }
+        }
+
+        private static final class Trie {
+
+            @NonNull
+            private final Node mRoot;
+
+            private Trie(@NonNull final Node root) {
+                super();
+
+                mRoot = root;
+            }
+
+            @Nullable
+            public final Route get(@NonNull final Uri uri) {
+                final List<String> segments = uri.getPathSegments();
+                return (segments == null) ? null : mRoot.find(segments, 0);
+            }
+        }
+
+        private static final class Node {
+
+            public static final Node Empty = new Node(null, Collections.<String, Node>emptyMap(), null, null);
+
+            @NonNls
+            private static final String NUMBER = "#";
+
+            @Nullable
+            private final Route mRoute;
+            @NonNls
+            @NonNull
+            private final Map<String, Node> mLiterals;
+            @Nullable
+            private final Node mNumber;
+            @Nullable
+            private final Node mText;
+
+            private Node(@Nullable final Route route,
+                         @NonNls @NonNull final Map<String, Node> literals,
+                         @Nullable final Node number,
+                         @Nullable final Node text) {
+                super();
+
+                mRoute = route;
+                mLiterals = literals;
+                mNumber = number;
+                mText = text;
+            }
+
+            @Nullable
+            public final Route find(@NonNls @NonNull final List<String> segments, final int index) {
+                Route result = null;
+
+                if (index == segments.size()) {
+                    result = mRoute;
+                } else {
+                    final String segment = segments.get(index);
+                    final Node literal = mLiterals.get(segment);
+                    if (literal != null) {
+                        result = literal.find(segments, index + 1);
+                    }
+                    if ((result == null) && (mNumber != null) && isNumber(segment)) {
+                        result = mNumber.find(segments, index + 1);
+                    }
+                    if ((result == null) && (mText != null)) {
+                        result = mText.find(segments, index + 1);
+                    }
+                }
+
+                return result;
+            }
+
+            @NonNull
+            public final Node with(@NonNull final List<Segment> segments,
+                                   final int index,
+                                   @NonNull final Route route) {
+                final Node result;
+
+                if (index == segments.size()) {
+                    result = new Node(route, mLiterals, mNumber, mText);
+                } else {
+                    final Segment segment = segments.get(index);
+                    final String value = segment.toString();
+                    if (segment instanceof Segment.Argument) {
+                        if (NUMBER.equals(value)) {
+                            result = new Node(mRoute, mLiterals, orEmpty(mNumber).with(segments, index + 1, route), mText);
+                        } else {
+                            result = new Node(mRoute, mLiterals, mNumber, orEmpty(mText).with(segments, index + 1, route));
+                        }
+                    } else {
+                        final Map<String, Node> literals = new HashMap<>(mLiterals);
+                        literals.put(value, orEmpty(mLiterals.get(value)).with(segments, index + 1, route));
+                        result = new Node(mRoute, literals, mNumber, mText);
+                    }
+                }
+
+                return result;
+            }
+
+            @NonNull
+            private static Node orEmpty(@Nullable final Node node) {
+                return (node == null) ? Empty : node;
+            }
+
+            private static boolean isNumber(@NonNls @NonNull final String segment) {
+                final int length = segment.length();
+                boolean result = length > 0;
+
+                for (int i = 0; (i < length) && result; i++) {
+                    final char c = segment.charAt(i);
+                    result = (c >= '0') && (c <= '9');
+                }
+
+                return result;
             }
         }
     }
@@ -19,10 +19,12 @@ package android.orm.remote.dao;
 import android.content.ContentResolver;
 import android.net.Uri;
 import android.orm.dao.Executor;
+import android.orm.dao.Keys;
 import android.orm.remote.Route;
 import android.orm.remote.dao.direct.Delete;
 import android.orm.remote.dao.direct.Exists;
 import android.orm.remote.dao.direct.Insert;
+import android.orm.remote.dao.direct.InsertAll;
 import android.orm.remote.dao.direct.Query;
 import android.orm.remote.dao.direct.Update;
 import android.orm.sql.Reader;
@@ -39,6 +41,10 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.util.Log;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import static android.orm.util.Maybes.something;
 
 public final class Executors {
@@ -170,6 +176,25 @@ public final class Executors {
             return insert.run();
         }
 
+        @NonNull
+        @Override
+        public final Maybe<Keys<Uri>> insertAll(@NonNull final Iterable<? extends Writer> writers,
+                                                final int chunk) {
+            if (chunk <= 0) {
+                throw new IllegalArgumentException("Chunk size must be positive");
+            }
+
+            final Iterator<? extends Writer> iterator = writers.iterator();
+            final List<Uri> uris = new ArrayList<>();
+            while (iterator.hasNext()) {
+                final InsertAll insert = InsertAll.Pool.borrow();
+                insert.init(mResolver, mUri, iterator, chunk, uris);
+                insert.run();
+            }
+
+            return something(Keys.of(uris));
+        }
+
         @NonNull
         @Override
         public final Maybe<Integer> delete(@NonNull final Predicate predicate) {
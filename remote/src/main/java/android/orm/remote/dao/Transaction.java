@@ -267,7 +267,7 @@ public abstract class Transaction<R> {
             final ContentValues values = new ContentValues();
             mWriter.write(Update, writable(values));
             return ContentProviderOperation.newUpdate(mUri)
-                    .withSelection(mPredicate.toSQL(), null)
+                    .withSelection(mPredicate.toSelection(), mPredicate.getSelectionArgs())
                     .withValues(values)
                     .build();
         }
@@ -291,7 +291,7 @@ public abstract class Transaction<R> {
         @Override
         public final ContentProviderOperation produce() {
             return ContentProviderOperation.newDelete(mUri)
-                    .withSelection(mPredicate.toSQL(), null)
+                    .withSelection(mPredicate.toSelection(), mPredicate.getSelectionArgs())
                     .build();
         }
     }
@@ -64,7 +64,7 @@ public class Delete implements ExecutionContext.Task<Integer> {
         final int deleted;
 
         try {
-            deleted = mResolver.delete(mUri, mPredicate.toSQL(), null);
+            deleted = mResolver.delete(mUri, mPredicate.toSelection(), mPredicate.getSelectionArgs());
         } finally {
             mResolver = null;
             mUri = null;
@@ -67,7 +67,7 @@ public class Exists implements ExecutionContext.Task<Boolean> {
 
         Cursor cursor = null;
         try {
-            cursor = mResolver.query(mUri, PROJECTION, mPredicate.toSQL(), null, null);
+            cursor = mResolver.query(mUri, PROJECTION, mPredicate.toSelection(), mPredicate.getSelectionArgs(), null);
             result = something((cursor != null) && (cursor.getCount() > 0));
         } finally {
             mResolver = null;
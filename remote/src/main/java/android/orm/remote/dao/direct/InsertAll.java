@@ -0,0 +1,119 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.remote.dao.direct;
+
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
+import android.content.ContentResolver;
+import android.content.ContentValues;
+import android.content.OperationApplicationException;
+import android.database.SQLException;
+import android.net.Uri;
+import android.orm.dao.async.ExecutionContext;
+import android.orm.sql.Writer;
+import android.orm.util.Legacy;
+import android.orm.util.Maybe;
+import android.orm.util.ObjectPool;
+import android.os.RemoteException;
+import android.support.annotation.NonNull;
+import android.util.Log;
+
+import org.jetbrains.annotations.NonNls;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static android.orm.sql.Value.Write.Operation.Insert;
+import static android.orm.sql.Writables.writable;
+import static android.orm.util.Maybes.something;
+
+public class InsertAll implements ExecutionContext.Task<Integer> {
+
+    public static final ObjectPool<InsertAll> Pool = new ObjectPool<InsertAll>() {
+        @NonNull
+        @Override
+        protected InsertAll produce(@NonNull final Receipt<InsertAll> receipt) {
+            return new InsertAll(receipt);
+        }
+    };
+
+    private static final String TAG = InsertAll.class.getSimpleName();
+
+    @NonNull
+    private final ObjectPool.Receipt<InsertAll> mReceipt;
+
+    private ContentResolver mResolver;
+    private Uri mUri;
+    private Iterator<? extends Writer> mWriters;
+    private int mChunk;
+    private List<Uri> mUris;
+
+    private InsertAll(@NonNull final ObjectPool.Receipt<InsertAll> receipt) {
+        super();
+
+        mReceipt = receipt;
+    }
+
+    public final void init(@NonNull final ContentResolver resolver,
+                           @NonNull final Uri uri,
+                           @NonNull final Iterator<? extends Writer> writers,
+                           final int chunk,
+                           @NonNull final List<Uri> uris) {
+        mResolver = resolver;
+        mUri = uri;
+        mWriters = writers;
+        mChunk = chunk;
+        mUris = uris;
+    }
+
+    @NonNull
+    @Override
+    public final Maybe<Integer> run() {
+        final int inserted;
+
+        try {
+            final ArrayList<ContentProviderOperation> operations = new ArrayList<>(mChunk);
+            while ((operations.size() < mChunk) && mWriters.hasNext()) {
+                final ContentValues values = new ContentValues();
+                mWriters.next().write(Insert, writable(values));
+                operations.add(ContentProviderOperation.newInsert(mUri).withValues(values).build());
+            }
+
+            final ContentProviderResult[] results = mResolver.applyBatch(mUri.getAuthority(), operations);
+            for (final ContentProviderResult result : results) {
+                if (result.uri == null) {
+                    throw new SQLException("Couldn't insert item " + (mUris.size() + 1) + " at " + mUri); //NON-NLS
+                }
+                mUris.add(result.uri);
+            }
+            inserted = results.length;
+        } catch (final RemoteException | OperationApplicationException cause) {
+            @NonNls final String message = "There was a problem inserting at " + mUri;
+            Log.e(TAG, message, cause);
+            throw Legacy.wrap(message, cause);
+        } finally {
+            mResolver = null;
+            mUri = null;
+            mWriters = null;
+            mUris = null;
+            mReceipt.yield();
+        }
+
+        return something(inserted);
+    }
+}
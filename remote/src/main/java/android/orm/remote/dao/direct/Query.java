@@ -36,6 +36,7 @@ import android.util.Log;
 
 import static android.orm.sql.Readables.limit;
 import static android.orm.sql.Readables.readable;
+import static android.orm.sql.Readers.isStreaming;
 import static android.orm.util.Maybes.nothing;
 import static android.orm.util.Maybes.something;
 import static android.util.Log.INFO;
@@ -108,11 +109,19 @@ public class Query implements ExecutionContext.Task<Producer<Maybe<Object>>> {
                     Log.i(TAG, "Nothing was queried"); //NON-NLS
                 }
             } else {
-                final String where = mPredicate.toSQL();
+                final String where = mPredicate.toSelection();
                 final String order = (mOrder == null) ? null : mOrder.toSQL();
-                final Cursor cursor = mResolver.query(mUri, projection.asArray(), where, null, order);
+                final String[] arguments = mPredicate.getSelectionArgs();
+                final Cursor cursor = mResolver.query(mUri, projection.asArray(), where, arguments, order);
                 if (cursor == null) {
                     result = nothing();
+                } else if (isStreaming(mReader)) {
+                    try {
+                        result = something(mReader.read(limit(readable(cursor), mLimit, mOffset)));
+                    } catch (final RuntimeException cause) {
+                        cursor.close();
+                        throw cause;
+                    }
                 } else {
                     try {
                         result = something(mReader.read(limit(readable(cursor), mLimit, mOffset)));
@@ -80,7 +80,7 @@ public class Update implements ExecutionContext.Task<Integer> {
 
             if (values.size() > 0) {
                 final Predicate predicate = mPredicate.and(mWriter.onUpdate());
-                updated = mResolver.update(mUri, values, predicate.toSQL(), null);
+                updated = mResolver.update(mUri, values, predicate.toSelection(), predicate.getSelectionArgs());
             } else {
                 updated = 0;
                 if (Log.isLoggable(TAG, INFO)) {
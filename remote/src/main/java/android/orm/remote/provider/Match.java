@@ -21,7 +21,10 @@ import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteQueryBuilder;
 import android.net.Uri;
+import android.orm.dao.Changes;
+import android.orm.dao.Keys;
 import android.orm.dao.direct.Insert;
+import android.orm.dao.direct.InsertAll;
 import android.orm.remote.Route;
 import android.orm.remote.route.Path;
 import android.orm.sql.Value;
@@ -36,6 +39,10 @@ import android.support.annotation.Nullable;
 
 import org.jetbrains.annotations.NonNls;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import static android.orm.sql.Helper.escape;
 
 public class Match {
@@ -48,6 +55,8 @@ public class Match {
         }
     };
 
+    private static final String[] NO_ARGUMENTS = {};
+
     @NonNull
     private final ObjectPool.Receipt<Match> mReceipt;
 
@@ -67,9 +76,9 @@ public class Match {
 
     public final void init(@NonNull final Route route, @NonNull final Uri uri) {
         mSingleRoute = route.getSingleRoute();
-        final Path path = route.getPath();
-        mPredicate = path.createPredicate(uri);
-        mOnInsert = path.createValues(uri);
+        final Path.Parsed parsed = route.getPath().parse(uri);
+        mPredicate = parsed.getPredicate();
+        mOnInsert = parsed.getValues();
         mTable = escape(route.getTable());
 
         final Order order = route.getOrder();
@@ -90,8 +99,8 @@ public class Match {
         try {
             final SQLiteQueryBuilder builder = new SQLiteQueryBuilder();
             builder.setTables(mTable);
-            final String where = mPredicate.and(new Predicate(selection)).toSQL();
-            result = builder.query(database, projection, where, arguments, null, null, (order == null) ? mOrder : order, mLimit);
+            final Predicate where = mPredicate.and(new Predicate(selection, (Object[]) arguments(arguments)));
+            result = builder.query(database, projection, where.toSelection(), where.getSelectionArgs(), null, null, (order == null) ? mOrder : order, mLimit);
         } finally {
             clean();
             mReceipt.yield();
@@ -123,6 +132,33 @@ public class Match {
         return result;
     }
 
+    public final int insert(@NonNull final SQLiteDatabase database,
+                            @NonNull final ContentValues... values) {
+        final int result;
+
+        try {
+            final List<ContentValues> rows = new ArrayList<>(values.length);
+            for (final ContentValues row : values) {
+                if ((row != null) && (row.size() > 0)) {
+                    rows.add(row);
+                }
+            }
+
+            if (rows.isEmpty()) {
+                result = 0;
+            } else {
+                final InsertAll insert = InsertAll.Pool.borrow();
+                insert.init(mTable, new Write.All(rows.iterator()), rows.size(), mOnInsert, mSingleRoute, new Keys.Builder<>(true));
+                result = insert.execute(database).getOrElse(0);
+            }
+        } finally {
+            clean();
+            mReceipt.yield();
+        }
+
+        return result;
+    }
+
     public final int update(@NonNull final SQLiteDatabase database,
                             @NonNull final ContentValues values,
                             @Nullable final String selection,
@@ -130,8 +166,11 @@ public class Match {
         final int result;
 
         try {
-            final String where = mPredicate.and(new Predicate(selection)).toSQL();
-            result = database.update(mTable, values, where, arguments);
+            final Predicate where = mPredicate.and(new Predicate(selection, (Object[]) arguments(arguments)));
+            result = database.update(mTable, values, where.toSelection(), where.getSelectionArgs());
+            if (result > 0) {
+                Changes.changed(database, mTable);
+            }
         } finally {
             clean();
             mReceipt.yield();
@@ -146,8 +185,11 @@ public class Match {
         final int result;
 
         try {
-            final String where = mPredicate.and(new Predicate(selection)).toSQL();
-            result = database.delete(mTable, where, arguments);
+            final Predicate where = mPredicate.and(new Predicate(selection, (Object[]) arguments(arguments)));
+            result = database.delete(mTable, where.toSelection(), where.getSelectionArgs());
+            if (result > 0) {
+                Changes.changed(database, mTable);
+            }
         } finally {
             clean();
             mReceipt.yield();
@@ -156,6 +198,11 @@ public class Match {
         return result;
     }
 
+    @NonNull
+    private static String[] arguments(@Nullable final String... arguments) {
+        return (arguments == null) ? NO_ARGUMENTS : arguments;
+    }
+
     private void clean() {
         mSingleRoute = null;
         mPredicate = null;
@@ -210,6 +257,36 @@ public class Match {
             }
         }
 
+        public static class All implements Iterator<Writer> {
+
+            @NonNull
+            private final Iterator<ContentValues> mValues;
+
+            public All(@NonNull final Iterator<ContentValues> values) {
+                super();
+
+                mValues = values;
+            }
+
+            @Override
+            public final boolean hasNext() {
+                return mValues.hasNext();
+            }
+
+            @NonNull
+            @Override
+            public final Writer next() {
+                final Values values = Values.Pool.borrow();
+                values.init(mValues.next());
+                return values;
+            }
+
+            @Override
+            public final void remove() {
+                throw new UnsupportedOperationException("Writers cannot be removed");
+            }
+        }
+
         private Write() {
             super();
         }
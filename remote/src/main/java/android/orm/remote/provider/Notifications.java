@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.remote.provider;
+
+import android.content.ContentResolver;
+import android.net.Uri;
+import android.support.annotation.NonNull;
+
+import org.jetbrains.annotations.NonNls;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class Notifications {
+
+    private final Lock mLock = new ReentrantLock();
+    private final Set<Uri> mUris = new HashSet<>();
+
+    private int mDepth = 0;
+
+    public Notifications() {
+        super();
+    }
+
+    public final void begin() {
+        mLock.lock();
+        try {
+            mDepth++;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public final void changed(@NonNull final ContentResolver resolver, @NonNull final Uri uri) {
+        final boolean buffered;
+
+        mLock.lock();
+        try {
+            buffered = mDepth > 0;
+            if (buffered) {
+                mUris.add(uri);
+            }
+        } finally {
+            mLock.unlock();
+        }
+
+        if (!buffered) {
+            resolver.notifyChange(uri, null);
+        }
+    }
+
+    public final void end(@NonNull final ContentResolver resolver, final boolean successful) {
+        final boolean outermost;
+
+        mLock.lock();
+        try {
+            mDepth--;
+            outermost = mDepth <= 0;
+            if (!successful) {
+                mUris.clear();
+            }
+        } finally {
+            mLock.unlock();
+        }
+
+        if (outermost) {
+            send(resolver);
+        }
+    }
+
+    public final void add(@NonNull final Uri uri) {
+        mLock.lock();
+        try {
+            mUris.add(uri);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public final void discard() {
+        mLock.lock();
+        try {
+            mUris.clear();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    public final void send(@NonNull final ContentResolver resolver) {
+        final Collection<Uri> uris;
+
+        mLock.lock();
+        try {
+            uris = collapse(mUris);
+            mUris.clear();
+        } finally {
+            mLock.unlock();
+        }
+
+        for (final Uri uri : uris) {
+            resolver.notifyChange(uri, null);
+        }
+    }
+
+    @NonNull
+    private static Collection<Uri> collapse(@NonNull final Set<Uri> uris) {
+        final Collection<Uri> result = new ArrayList<>(uris.size());
+
+        final Set<String> keys = new HashSet<>(uris.size());
+        for (final Uri uri : uris) {
+            keys.add(key(uri, uri.getPathSegments().size()));
+        }
+
+        for (final Uri uri : uris) {
+            final int depth = uri.getPathSegments().size();
+            boolean subsumed = false;
+            for (int i = 0; (i < depth) && !subsumed; i++) {
+                subsumed = keys.contains(key(uri, i));
+            }
+            if (!subsumed) {
+                result.add(uri);
+            }
+        }
+
+        return result;
+    }
+
+    @NonNls
+    @NonNull
+    private static String key(@NonNull final Uri uri, final int depth) {
+        @NonNls final StringBuilder result = new StringBuilder();
+
+        result.append(uri.getScheme()).append("://").append(uri.getAuthority());
+        final List<String> segments = uri.getPathSegments();
+        for (int i = 0; i < depth; i++) {
+            result.append('/').append(segments.get(i));
+        }
+
+        return result.toString();
+    }
+}
@@ -30,6 +30,11 @@ public final class Argument {
             public Predicate getPredicate(@NonNull final V value) {
                 return Predicate.on(column).isEqualTo(value);
             }
+
+            @Override
+            protected boolean isEquality() {
+                return true;
+            }
         };
     }
 
@@ -24,6 +24,7 @@ import android.orm.sql.Select;
 import android.orm.sql.Writable;
 import android.orm.sql.fragment.Predicate;
 import android.orm.util.Maybe;
+import android.orm.util.Maybes;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.util.SparseArray;
@@ -32,13 +33,14 @@ import org.jetbrains.annotations.NonNls;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static android.orm.sql.Value.Write.Operation.Insert;
 import static android.orm.sql.Writables.writable;
-import static android.orm.util.Maybes.nothing;
 import static android.orm.util.Maybes.something;
 
 public class Path {
@@ -55,6 +57,9 @@ public class Path {
     @NonNls
     private static final String WRONG_PATH_ERROR = "Given uri path has wrong number of segments";
     private static final Object[] NO_ARGUMENTS = new Object[0];
+    @NonNls
+    private static final String SCHEME = "content";
+    private static final int PARSED_SIZE = 16;
 
     @NonNull
     private final List<Segment> mSegments;
@@ -65,6 +70,13 @@ public class Path {
     private final SparseArray<Segment.Argument<?>> mArguments;
     @NonNull
     private final Select.Projection mProjection;
+    @NonNls
+    @NonNull
+    private final String[] mLiterals;
+    @NonNull
+    private final int[] mPositions;
+
+    private final AtomicReferenceArray<Parsed> mParsed = new AtomicReferenceArray<>(PARSED_SIZE);
 
     private Path(@NonNull final List<Segment> segments,
                  @NonNull final SparseArray<Segment.Argument<?>> arguments,
@@ -76,6 +88,19 @@ public class Path {
         mPath = path;
         mArguments = arguments;
         mProjection = projection;
+
+        final int size = segments.size();
+        mLiterals = new String[size];
+        mPositions = new int[size];
+        for (int i = 0; i < size; i++) {
+            final Segment segment = segments.get(i);
+            if (segment instanceof Segment.Literal) {
+                mLiterals[i] = segment.toString();
+                mPositions[i] = -1;
+            } else {
+                mPositions[i] = arguments.indexOfKey(i);
+            }
+        }
     }
 
     @NonNull
@@ -83,6 +108,11 @@ public class Path {
         return mProjection;
     }
 
+    @NonNull
+    public final List<Segment> getSegments() {
+        return Collections.unmodifiableList(mSegments);
+    }
+
     @NonNull
     public final Path slash(@NonNls @NonNull final String literal) {
         return slash(new Segment.Literal(literal));
@@ -124,54 +154,70 @@ public class Path {
 
     @NonNull
     public final Maybe<String> createConcretePath(@NonNull final Readable input) {
-        Maybe<String> result = null;
+        final Object[] arguments = readArguments(input);
+        return (arguments == null) ? Maybes.<String>nothing() : something(createConcretePath(arguments));
+    }
 
-        final int size = mArguments.size();
-        final Collection<Object> arguments = new ArrayList<>(size);
-        for (int i = 0; (i < size) && (result == null); i++) {
-            final Object value = mArguments.valueAt(i).read(input).getOrElse(null);
-            if (value == null) {
-                result = nothing();
-            } else {
-                arguments.add(value);
+    @NonNull
+    public final String createConcretePath(@NonNull final Object... arguments) {
+        checkArguments(arguments.length);
+
+        final StringBuilder result = new StringBuilder(mPath.length() + (arguments.length * 8));
+
+        for (int i = 0; i < mLiterals.length; i++) {
+            if (i > 0) {
+                result.append('/');
             }
+            result.append(getUriPart(i, arguments));
         }
 
-        return (result == null) ?
-                something(createConcretePath(arguments.toArray(new Object[arguments.size()]))) :
-                result;
+        return result.toString();
     }
 
     @NonNull
-    public final String createConcretePath(@NonNull final Object... arguments) {
-        if (mArguments.size() != arguments.length) {
-            throw new IllegalArgumentException(WRONG_ARGUMENTS_ERROR.format(new Object[]{mArguments.size(), arguments.length}));
+    public final Maybe<Uri> createUri(@NonNls @NonNull final String authority,
+                                      @NonNull final Readable input) {
+        final Object[] arguments = readArguments(input);
+        return (arguments == null) ? Maybes.<Uri>nothing() : something(createUri(authority, arguments));
+    }
+
+    @NonNull
+    public final Uri createUri(@NonNls @NonNull final String authority,
+                               @NonNull final Object... arguments) {
+        checkArguments(arguments.length);
+
+        final Uri.Builder result = new Uri.Builder().scheme(SCHEME).authority(authority);
+        for (int i = 0; i < mLiterals.length; i++) {
+            result.appendPath(getUriPart(i, arguments));
         }
 
-        final StringBuilder result = new StringBuilder();
+        return result.build();
+    }
 
-        if (!mSegments.isEmpty()) {
-            result.append(getUriPart(0, arguments));
-            for (int i = 1; i < mSegments.size(); i++) {
-                result.append('/').append(getUriPart(i, arguments));
-            }
+    @NonNull
+    public final Parsed parse(@NonNull final Uri uri) {
+        final int index = uri.hashCode() & (PARSED_SIZE - 1);
+        Parsed result = mParsed.get(index);
+
+        if ((result == null) || ((result.mUri != uri) && !result.mUri.equals(uri))) {
+            final Object[] arguments = parseArguments(uri);
+            result = new Parsed(uri, createPredicate(arguments), createValues(arguments), createKeys(arguments));
+            mParsed.set(index, result);
         }
 
-        return result.toString();
+        return result;
     }
 
     @NonNull
     public final Predicate createPredicate(@NonNull final Uri uri) {
-        return createPredicate(parseArguments(uri));
+        return parse(uri).getPredicate();
     }
 
     @NonNull
     @SuppressWarnings("unchecked")
     public final Predicate createPredicate(@NonNull final Object... arguments) {
         final int length = arguments.length;
-        if (mArguments.size() != length) {
-            throw new IllegalArgumentException(WRONG_ARGUMENTS_ERROR.format(new Object[]{mArguments.size(), length}));
-        }
+        checkArguments(length);
 
         Predicate predicate = Predicate.None;
 
@@ -184,16 +230,14 @@ public class Path {
 
     @NonNull
     public final ContentValues createValues(@NonNull final Uri uri) {
-        return createValues(parseArguments(uri));
+        return new ContentValues(parse(uri).mValues);
     }
 
     @NonNull
     @SuppressWarnings("unchecked")
     public final ContentValues createValues(@NonNull final Object... arguments) {
         final int length = arguments.length;
-        if (mArguments.size() != length) {
-            throw new IllegalArgumentException(WRONG_ARGUMENTS_ERROR.format(new Object[]{mArguments.size(), length}));
-        }
+        checkArguments(length);
 
         final ContentValues result = new ContentValues();
 
@@ -231,6 +275,48 @@ public class Path {
         return mPath;
     }
 
+    private void checkArguments(final int length) {
+        if (mArguments.size() != length) {
+            throw new IllegalArgumentException(WRONG_ARGUMENTS_ERROR.format(new Object[]{mArguments.size(), length}));
+        }
+    }
+
+    @Nullable
+    private Object[] readArguments(@NonNull final Readable input) {
+        final int size = mArguments.size();
+        Object[] result = (size > 0) ? new Object[size] : NO_ARGUMENTS;
+
+        for (int i = 0; (i < size) && (result != null); i++) {
+            final Object value = mArguments.valueAt(i).read(input).getOrElse(null);
+            if (value == null) {
+                result = null;
+            } else {
+                result[i] = value;
+            }
+        }
+
+        return result;
+    }
+
+    @NonNull
+    @SuppressWarnings("unchecked")
+    private Map<String, String> createKeys(@NonNull final Object... arguments) {
+        Map<String, String> result = Collections.emptyMap();
+
+        final int count = mArguments.size();
+        for (int i = 0; i < count; i++) {
+            final Segment.Argument<Object> argument = (Segment.Argument<Object>) mArguments.valueAt(i);
+            if (argument.isKey()) {
+                if (result.isEmpty()) {
+                    result = new HashMap<>(count);
+                }
+                result.put(argument.getName(), argument.toString(arguments[i]));
+            }
+        }
+
+        return result;
+    }
+
     @NonNull
     private Object[] parseArguments(@NonNull final Uri uri) {
         final List<String> segments = uri.getPathSegments();
@@ -256,9 +342,54 @@ public class Path {
     @NonNull
     @SuppressWarnings("unchecked")
     private String getUriPart(final int index, @NonNull final Object... arguments) {
-        final Segment segment = mSegments.get(index);
-        return (segment instanceof Segment.Literal) ?
-                segment.toString() :
-                ((Segment.Argument<Object>) segment).toString(arguments[mArguments.indexOfKey(index)]);
+        final int position = mPositions[index];
+        return (position < 0) ?
+                mLiterals[index] :
+                ((Segment.Argument<Object>) mArguments.valueAt(position)).toString(arguments[position]);
+    }
+
+    public static final class Parsed {
+
+        @NonNull
+        private final Uri mUri;
+        @NonNull
+        private final Predicate mPredicate;
+        @NonNull
+        private final ContentValues mValues;
+        @NonNull
+        private final Map<String, String> mKeys;
+
+        private Parsed(@NonNull final Uri uri,
+                       @NonNull final Predicate predicate,
+                       @NonNull final ContentValues values,
+                       @NonNull final Map<String, String> keys) {
+            super();
+
+            mUri = uri;
+            mPredicate = predicate;
+            mValues = values;
+            mKeys = keys;
+        }
+
+        @NonNull
+        public final Predicate getPredicate() {
+            return mPredicate;
+        }
+
+        @NonNull
+        public final ContentValues getValues() {
+            return new ContentValues(mValues);
+        }
+
+        public final boolean isDisjoint(@NonNull final Parsed other) {
+            boolean result = false;
+
+            for (final Map.Entry<String, String> entry : mKeys.entrySet()) {
+                final String value = other.mKeys.get(entry.getKey());
+                result = result || ((value != null) && !value.equals(entry.getValue()));
+            }
+
+            return result;
+        }
     }
 }
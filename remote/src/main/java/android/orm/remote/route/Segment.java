@@ -91,6 +91,14 @@ public interface Segment {
         @NonNull
         public abstract Predicate getPredicate(@NonNull final V value);
 
+        protected boolean isEquality() {
+            return false;
+        }
+
+        public final boolean isKey() {
+            return isEquality() && !mColumn.isUpdateable();
+        }
+
         @NonNls
         @NonNull
         public final String getName() {
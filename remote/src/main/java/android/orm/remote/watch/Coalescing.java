@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.remote.watch;
+
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static android.os.SystemClock.uptimeMillis;
+import static java.lang.Math.min;
+
+public abstract class Coalescing implements Observer {
+
+    private final long mQuietPeriod;
+    private final long mMaxLatency;
+
+    private final Runnable mQuery = new Runnable() {
+        @Override
+        public void run() {
+            mScheduled = false;
+            dispatch();
+        }
+    };
+
+    private final AtomicBoolean mDirty = new AtomicBoolean(false);
+    private final AtomicBoolean mRunning = new AtomicBoolean(false);
+    private final Runnable mRequery = new Runnable() {
+        @Override
+        public void run() {
+            boolean again;
+            do {
+                mDirty.set(false);
+                try {
+                    query();
+                } finally {
+                    mRunning.set(false);
+                }
+                again = mDirty.get() && mRunning.compareAndSet(false, true);
+            } while (again);
+        }
+    };
+
+    @Nullable
+    private volatile Executor mWorkers;
+
+    @Nullable
+    private Handler mLoop;
+    private boolean mScheduled = false;
+    private long mFirstChange;
+
+    protected Coalescing(final long quietPeriod, final long maxLatency) {
+        super();
+
+        if ((quietPeriod < 0L) || (maxLatency < 0L)) {
+            throw new IllegalArgumentException("Quiet period and max latency must not be negative");
+        }
+
+        mQuietPeriod = quietPeriod;
+        mMaxLatency = (maxLatency < quietPeriod) ? quietPeriod : maxLatency;
+    }
+
+    protected abstract void query();
+
+    public final void offload(@Nullable final Executor workers) {
+        mWorkers = workers;
+    }
+
+    @Override
+    public final void onChange(@Nullable final Uri uri) {
+        if ((mQuietPeriod == 0L) && (mMaxLatency == 0L)) {
+            dispatch();
+        } else {
+            if (mLoop == null) {
+                /* changes delivered on a thread without a looper are debounced on the main looper */
+                final Looper looper = Looper.myLooper();
+                mLoop = new Handler((looper == null) ? Looper.getMainLooper() : looper);
+            }
+
+            final long now = uptimeMillis();
+            if (!mScheduled) {
+                mScheduled = true;
+                mFirstChange = now;
+            }
+
+            mLoop.removeCallbacks(mQuery);
+            mLoop.postAtTime(mQuery, min(now + mQuietPeriod, mFirstChange + mMaxLatency));
+        }
+    }
+
+    private void dispatch() {
+        final Executor workers = mWorkers;
+        if (workers == null) {
+            query();
+        } else {
+            mDirty.set(true);
+            if (mRunning.compareAndSet(false, true)) {
+                try {
+                    workers.execute(mRequery);
+                } catch (final RejectedExecutionException ignored) {
+                    mRunning.set(false);
+                    query();
+                }
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ package android.orm.remote.watch;
 
 import android.net.Uri;
 import android.orm.remote.Route;
+import android.orm.remote.route.Path;
 import android.os.Handler;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
@@ -27,6 +28,7 @@ import org.jetbrains.annotations.NonNls;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class ContentObserver extends android.database.ContentObserver {
 
@@ -37,20 +39,37 @@ public abstract class ContentObserver extends android.database.ContentObserver {
     private final String mTable;
     @NonNull
     private final Route.Manager mRouteManager;
+    @Nullable
+    private final Path.Parsed mWatched;
+
+    private final AtomicLong mSkipped = new AtomicLong();
+    private final AtomicLong mExecuted = new AtomicLong();
 
     protected ContentObserver(@NonNull final Handler handler,
-                              @NonNls @NonNull final String table,
-                              @NonNull final Route.Manager manager) {
+                              @NonNull final Route route,
+                              @NonNull final Uri uri) {
         super(handler);
 
-        mTable = table;
-        mRouteManager = manager;
+        mTable = route.getTable();
+        mRouteManager = route.getManager();
+        mWatched = parse(route, uri);
     }
 
     protected abstract void onChange(@Nullable final Uri uri);
 
+    protected abstract int size();
+
+    public final long getSkippedRequeries() {
+        return mSkipped.get();
+    }
+
+    public final long getExecutedRequeries() {
+        return mExecuted.get();
+    }
+
     @Override
     public final void onChange(final boolean selfChange) {
+        mExecuted.addAndGet(size());
         onChange(null);
     }
 
@@ -62,9 +81,36 @@ public abstract class ContentObserver extends android.database.ContentObserver {
             Log.w(TAG, "Received unexpected uri " + uri + "! No route connected to it."); //NON-NLS
         }
 
-        if ((route == null) || mTable.equals(route.getTable())) {
+        if ((route == null) || (mTable.equals(route.getTable()) && isAffected(route, uri))) {
+            mExecuted.addAndGet(size());
             onChange(uri);
+        } else {
+            mSkipped.addAndGet(size());
+        }
+    }
+
+    private boolean isAffected(@NonNull final Route route, @NonNull final Uri uri) {
+        boolean result = true;
+
+        if (mWatched != null) {
+            final Path.Parsed changed = parse(route, uri);
+            result = (changed == null) || !mWatched.isDisjoint(changed);
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private static Path.Parsed parse(@NonNull final Route route, @NonNull final Uri uri) {
+        Path.Parsed result = null;
+
+        try {
+            result = route.getPath().parse(uri);
+        } catch (final IllegalArgumentException ignored) {
+            /* unknown uri shape, always requery */
         }
+
+        return result;
     }
 
     public static class SingleDispatch extends ContentObserver {
@@ -73,10 +119,10 @@ public abstract class ContentObserver extends android.database.ContentObserver {
         private final Observer mObserver;
 
         public SingleDispatch(@NonNull final Handler handler,
-                              @NonNls @NonNull final String table,
-                              @NonNull final Route.Manager manager,
+                              @NonNull final Route route,
+                              @NonNull final Uri uri,
                               @NonNull final Observer observer) {
-            super(handler, table, manager);
+            super(handler, route, uri);
 
             mObserver = observer;
         }
@@ -85,6 +131,11 @@ public abstract class ContentObserver extends android.database.ContentObserver {
         protected final void onChange(@Nullable final Uri uri) {
             mObserver.onChange(uri);
         }
+
+        @Override
+        protected final int size() {
+            return 1;
+        }
     }
 
     public static class MultiDispatch extends ContentObserver {
@@ -92,9 +143,9 @@ public abstract class ContentObserver extends android.database.ContentObserver {
         private final Collection<Observer> mObservers = new ArrayList<>();
 
         public MultiDispatch(@NonNull final Handler handler,
-                             @NonNls @NonNull final String table,
-                             @NonNull final Route.Manager manager) {
-            super(handler, table, manager);
+                             @NonNull final Route route,
+                             @NonNull final Uri uri) {
+            super(handler, route, uri);
         }
 
         @Override
@@ -104,6 +155,11 @@ public abstract class ContentObserver extends android.database.ContentObserver {
             }
         }
 
+        @Override
+        protected final int size() {
+            return mObservers.size();
+        }
+
         public final boolean isEmpty() {
             return mObservers.isEmpty();
         }
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.remote.watch;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Pair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Diff<V> {
+
+    private static final int[] NONE = new int[0];
+
+    @NonNull
+    private final List<V> mCurrent;
+    @NonNull
+    private final int[] mRemoved;
+    @NonNull
+    private final int[] mInserted;
+    @NonNull
+    private final int[] mMovedFrom;
+    @NonNull
+    private final int[] mMovedTo;
+    @NonNull
+    private final int[] mChanged;
+
+    private Diff(@NonNull final List<V> current,
+                 @NonNull final int[] removed,
+                 @NonNull final int[] inserted,
+                 @NonNull final int[] movedFrom,
+                 @NonNull final int[] movedTo,
+                 @NonNull final int[] changed) {
+        super();
+
+        mCurrent = Collections.unmodifiableList(current);
+        mRemoved = removed;
+        mInserted = inserted;
+        mMovedFrom = movedFrom;
+        mMovedTo = movedTo;
+        mChanged = changed;
+    }
+
+    @NonNull
+    public final List<V> getCurrent() {
+        return mCurrent;
+    }
+
+    @NonNull
+    public final int[] getRemoved() {
+        return mRemoved.clone();
+    }
+
+    @NonNull
+    public final int[] getInserted() {
+        return mInserted.clone();
+    }
+
+    @NonNull
+    public final int[] getMovedFrom() {
+        return mMovedFrom.clone();
+    }
+
+    @NonNull
+    public final int[] getMovedTo() {
+        return mMovedTo.clone();
+    }
+
+    @NonNull
+    public final int[] getChanged() {
+        return mChanged.clone();
+    }
+
+    public final boolean isEmpty() {
+        return (mRemoved.length == 0) &&
+                (mInserted.length == 0) &&
+                (mMovedFrom.length == 0) &&
+                (mChanged.length == 0);
+    }
+
+    @NonNull
+    public static <V, K> Diff<V> compute(@Nullable final List<Pair<V, K>> previous,
+                                         @NonNull final List<Pair<V, K>> current) {
+        final int before = (previous == null) ? 0 : previous.size();
+        final int after = current.size();
+
+        final Map<K, Integer> indices = new HashMap<>(before * 2);
+        for (int i = 0; i < before; i++) {
+            indices.put(previous.get(i).second, i);
+        }
+
+        final boolean[] kept = new boolean[before];
+        final int[] matches = new int[after];
+        final Positions inserted = new Positions();
+        final List<V> values = new ArrayList<>(after);
+        for (int j = 0; j < after; j++) {
+            final Pair<V, K> entry = current.get(j);
+            final Integer i = indices.get(entry.second);
+            if ((i == null) || kept[i]) {
+                matches[j] = -1;
+                inserted.add(j);
+            } else {
+                kept[i] = true;
+                matches[j] = i;
+            }
+            values.add(entry.first);
+        }
+
+        final Positions removed = new Positions();
+        for (int i = 0; i < before; i++) {
+            if (!kept[i]) {
+                removed.add(i);
+            }
+        }
+
+        final boolean[] stable = longestIncreasing(matches);
+        final Positions movedFrom = new Positions();
+        final Positions movedTo = new Positions();
+        final Positions changed = new Positions();
+        for (int j = 0; j < after; j++) {
+            final int i = matches[j];
+            if (i >= 0) {
+                if (stable[j]) {
+                    if (!equals(previous.get(i).first, values.get(j))) {
+                        changed.add(j);
+                    }
+                } else {
+                    movedFrom.add(i);
+                    movedTo.add(j);
+                }
+            }
+        }
+
+        return new Diff<>(
+                values,
+                removed.toArray(),
+                inserted.toArray(),
+                movedFrom.toArray(),
+                movedTo.toArray(),
+                changed.toArray()
+        );
+    }
+
+    @NonNull
+    private static boolean[] longestIncreasing(@NonNull final int[] matches) {
+        final int size = matches.length;
+        final boolean[] result = new boolean[size];
+        final int[] tails = new int[size];
+        final int[] previous = new int[size];
+        int length = 0;
+
+        for (int j = 0; j < size; j++) {
+            final int value = matches[j];
+            if (value >= 0) {
+                int low = 0;
+                int high = length;
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+                    if (matches[tails[middle]] < value) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+
+                previous[j] = (low > 0) ? tails[low - 1] : -1;
+                tails[low] = j;
+                if (low == length) {
+                    length++;
+                }
+            }
+        }
+
+        int j = (length > 0) ? tails[length - 1] : -1;
+        while (j >= 0) {
+            result[j] = true;
+            j = previous[j];
+        }
+
+        return result;
+    }
+
+    private static boolean equals(@Nullable final Object first, @Nullable final Object second) {
+        return (first == null) ? (second == null) : first.equals(second);
+    }
+
+    private static class Positions {
+
+        @NonNull
+        private int[] mValues = NONE;
+        private int mSize = 0;
+
+        public final void add(final int position) {
+            if (mSize >= mValues.length) {
+                final int[] values = new int[Math.max(16, mValues.length * 2)];
+                System.arraycopy(mValues, 0, values, 0, mSize);
+                mValues = values;
+            }
+            mValues[mSize] = position;
+            mSize++;
+        }
+
+        @NonNull
+        public final int[] toArray() {
+            final int[] result;
+
+            if (mSize == 0) {
+                result = NONE;
+            } else {
+                result = new int[mSize];
+                System.arraycopy(mValues, 0, result, 0, mSize);
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.remote.watch;
+
+import android.orm.dao.Executor;
+import android.orm.dao.Result;
+import android.orm.model.Reading;
+import android.orm.sql.fragment.Limit;
+import android.orm.sql.fragment.Offset;
+import android.orm.sql.fragment.Order;
+import android.orm.sql.fragment.Predicate;
+import android.orm.util.Function;
+import android.orm.util.Maybe;
+import android.orm.util.Producer;
+import android.os.Handler;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Log;
+import android.util.Pair;
+
+import java.util.Collections;
+import java.util.List;
+
+import static android.orm.dao.direct.Query.afterRead;
+import static android.orm.util.Maybes.something;
+
+public class Differ<V, K> extends Coalescing {
+
+    private static final String TAG = Differ.class.getSimpleName();
+
+    @NonNull
+    private final Executor.Direct<?, ?> mExecutor;
+    @NonNull
+    private final Handler mHandler;
+    @NonNull
+    private final Reading.Many<List<Pair<V, K>>> mReading;
+    @NonNull
+    private final Predicate mPredicate;
+    @Nullable
+    private final Order mOrder;
+    @Nullable
+    private final Limit mLimit;
+    @Nullable
+    private final Offset mOffset;
+    @NonNull
+    private final Result.Callback<Diff<V>> mCallback;
+
+    @SuppressWarnings("unchecked")
+    private final Function<Producer<Maybe<List<Pair<V, K>>>>, Maybe<List<Pair<V, K>>>> mAfterRead = afterRead();
+
+    @Nullable
+    private List<Pair<V, K>> mPrevious;
+
+    public Differ(@NonNull final Executor.Direct<?, ?> executor,
+                  @NonNull final Handler handler,
+                  @NonNull final Reading.Many<List<Pair<V, K>>> reading,
+                  @NonNull final Predicate predicate,
+                  @Nullable final Order order,
+                  @Nullable final Limit limit,
+                  @Nullable final Offset offset,
+                  final long quietPeriod,
+                  final long maxLatency,
+                  @NonNull final Result.Callback<Diff<V>> callback) {
+        super(quietPeriod, maxLatency);
+
+        mExecutor = executor;
+        mHandler = handler;
+        mReading = reading;
+        mPredicate = predicate;
+        mOrder = order;
+        mLimit = limit;
+        mOffset = offset;
+        mCallback = callback;
+    }
+
+    @Override
+    protected final void query() {
+        try {
+            final Maybe<List<Pair<V, K>>> result = mExecutor.query(mReading.prepareReader(), mPredicate, mOrder, mLimit, mOffset)
+                    .flatMap(mAfterRead);
+            final List<Pair<V, K>> current = result.getOrElse(null);
+            final List<Pair<V, K>> rows = (current == null) ? Collections.<Pair<V, K>>emptyList() : current;
+            final Diff<V> diff = Diff.compute(mPrevious, rows);
+            final boolean first = mPrevious == null;
+            mPrevious = rows;
+
+            if (first || !diff.isEmpty()) {
+                mHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        mCallback.onResult(something(diff));
+                    }
+                });
+            }
+        } catch (final Throwable error) {
+            Log.w(TAG, "Error while querying", error); //NON-NLS
+        }
+    }
+}
@@ -24,8 +24,6 @@ import android.os.Handler;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
-import org.jetbrains.annotations.NonNls;
-
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -303,11 +301,8 @@ public abstract class Manager implements Dispatcher.Callback {
 
     private static class Registration {
 
-        @NonNls
-        @NonNull
-        private final String mTable;
         @NonNull
-        private final Route.Manager mRouteManager;
+        private final Route mRoute;
         @NonNull
         private final Uri mUri;
         @NonNull
@@ -328,8 +323,7 @@ public abstract class Manager implements Dispatcher.Callback {
                              @NonNull final Observer observer) {
             super();
 
-            mTable = route.getTable();
-            mRouteManager = route.getManager();
+            mRoute = route;
             mUri = uri;
             mObserver = observer;
         }
@@ -343,14 +337,14 @@ public abstract class Manager implements Dispatcher.Callback {
                                  @NonNull final Handler handler) {
             unregister(resolver);
             handler.post(mFirstRun);
-            mSingleDispatch = new ContentObserver.SingleDispatch(handler, mTable, mRouteManager, mObserver);
+            mSingleDispatch = new ContentObserver.SingleDispatch(handler, mRoute, mUri, mObserver);
             resolver.registerContentObserver(mUri, true, mSingleDispatch);
         }
 
         @NonNull
         public final ContentObserver.MultiDispatch multi(@NonNull final ContentResolver resolver,
                                                          @NonNull final Handler handler) {
-            final ContentObserver.MultiDispatch observer = new ContentObserver.MultiDispatch(handler, mTable, mRouteManager);
+            final ContentObserver.MultiDispatch observer = new ContentObserver.MultiDispatch(handler, mRoute, mUri);
             handler.post(mFirstRun);
             observer.add(mObserver);
             resolver.registerContentObserver(mUri, true, observer);
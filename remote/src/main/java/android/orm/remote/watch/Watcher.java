@@ -16,7 +16,6 @@
 
 package android.orm.remote.watch;
 
-import android.net.Uri;
 import android.orm.dao.Executor;
 import android.orm.dao.Result;
 import android.orm.model.Reading;
@@ -30,7 +29,6 @@ import android.orm.util.Future;
 import android.orm.util.Maybe;
 import android.orm.util.Maybes;
 import android.orm.util.Producer;
-import android.orm.util.Promise;
 import android.os.Handler;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
@@ -41,7 +39,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import static android.orm.dao.direct.Query.afterRead;
 import static android.orm.model.Observer.beforeRead;
 
-public class Watcher<R, M extends R> implements Future.Callback<Maybe<Producer<Maybe<M>>>>, Observer {
+public class Watcher<R, M extends R> extends Coalescing implements Future.Callback<Maybe<Producer<Maybe<M>>>> {
 
     private static final String TAG = Watcher.class.getSimpleName();
 
@@ -69,6 +67,29 @@ public class Watcher<R, M extends R> implements Future.Callback<Maybe<Producer<M
     @SuppressWarnings("unchecked")
     private final Function<Producer<Maybe<M>>, Maybe<M>> mAfterRead = afterRead();
 
+    private final AtomicReference<Maybe<Producer<Maybe<M>>>> mLatest = new AtomicReference<>();
+    private final Runnable mDeliver = new Runnable() {
+        @Override
+        public void run() {
+            final Maybe<Producer<Maybe<M>>> latest = mLatest.getAndSet(null);
+            if (latest != null) {
+                onResult(latest);
+            }
+        }
+    };
+
+    public Watcher(@NonNull final Executor.Direct<?, ?> executor,
+                   @NonNull final Handler handler,
+                   @Nullable final M model,
+                   @NonNull final Reading<M> reading,
+                   @NonNull final Predicate predicate,
+                   @Nullable final Order order,
+                   @Nullable final Limit limit,
+                   @Nullable final Offset offset,
+                   @NonNull final Result.Callback<R> callback) {
+        this(executor, handler, model, reading, predicate, order, limit, offset, 0L, 0L, callback);
+    }
+
     public Watcher(@NonNull final Executor.Direct<?, ?> executor,
                    @NonNull final Handler handler,
                    @Nullable final M model,
@@ -77,8 +98,10 @@ public class Watcher<R, M extends R> implements Future.Callback<Maybe<Producer<M
                    @Nullable final Order order,
                    @Nullable final Limit limit,
                    @Nullable final Offset offset,
+                   final long quietPeriod,
+                   final long maxLatency,
                    @NonNull final Result.Callback<R> callback) {
-        super();
+        super(quietPeriod, maxLatency);
 
         mExecutor = executor;
         mHandler = handler;
@@ -117,13 +140,14 @@ public class Watcher<R, M extends R> implements Future.Callback<Maybe<Producer<M
     }
 
     @Override
-    public final void onChange(@Nullable final Uri uri) {
-        final Promise<Maybe<Producer<Maybe<M>>>> promise = new Promise<>();
-        promise.getFuture().onComplete(mHandler, this);
+    protected final void query() {
         try {
-            promise.success(mExecutor.query(mReader.get(), mPredicate, mOrder, mLimit, mOffset));
+            final Maybe<Producer<Maybe<M>>> result = mExecutor.query(mReader.get(), mPredicate, mOrder, mLimit, mOffset);
+            if (mLatest.getAndSet(result) == null) {
+                mHandler.post(mDeliver);
+            }
         } catch (final Throwable error) {
-            promise.failure(error);
+            onError(error);
         }
     }
 }
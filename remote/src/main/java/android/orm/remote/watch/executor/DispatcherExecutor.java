@@ -68,6 +68,14 @@ public abstract class DispatcherExecutor implements Executor {
                                  @NonNull final Route route,
                                  @NonNull final Uri uri);
 
+    protected void onSubmit(@NonNull final Observer observer) {
+        /* do nothing */
+    }
+
+    protected void onSubmitted(@NonNull final Dispatcher dispatcher) {
+        /* do nothing */
+    }
+
     @NonNull
     @Override
     public final android.orm.remote.watch.Session session(@NonNull final ContentResolver resolver) {
@@ -80,7 +88,13 @@ public abstract class DispatcherExecutor implements Executor {
                               @NonNull final Uri uri,
                               @NonNull final Observer observer) {
         final Dispatcher dispatcher = get(resolver, route, uri);
-        final Cancelable submission = dispatcher.submit(route, uri, observer);
+        final Cancelable submission;
+        try {
+            onSubmit(observer);
+            submission = dispatcher.submit(route, uri, observer);
+        } finally {
+            onSubmitted(dispatcher);
+        }
         return new Cancelable() {
             @Override
             public void cancel() {
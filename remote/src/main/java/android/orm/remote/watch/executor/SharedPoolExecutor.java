@@ -0,0 +1,301 @@
+/*
+ * Copyright 2014 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.orm.remote.watch.executor;
+
+import android.content.ContentResolver;
+import android.net.Uri;
+import android.orm.remote.Route;
+import android.orm.remote.watch.Coalescing;
+import android.orm.remote.watch.Dispatcher;
+import android.orm.remote.watch.Manager;
+import android.orm.remote.watch.Observer;
+import android.support.annotation.NonNull;
+
+import org.jetbrains.annotations.NonNls;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static android.os.Process.THREAD_PRIORITY_BACKGROUND;
+import static android.os.Process.setThreadPriority;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+public class SharedPoolExecutor extends DispatcherExecutor {
+
+    @NonNls
+    private static final String WORKER_NAME = "SharedPoolExecutor #";
+
+    private static final ThreadFactory Background = new ThreadFactory() {
+
+        private final AtomicInteger mCount = new AtomicInteger();
+
+        @NonNull
+        @Override
+        public Thread newThread(@NonNull final Runnable runnable) {
+            final Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    setThreadPriority(THREAD_PRIORITY_BACKGROUND);
+                    runnable.run();
+                }
+            }, WORKER_NAME + mCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+
+    private final int mLoopers;
+    @NonNull
+    private final Manager.Factory mFactory;
+    @NonNull
+    private final ThreadPoolExecutor mWorkers;
+
+    private final Lock mLock = new ReentrantLock();
+    private final List<Dispatcher> mDispatchers = new ArrayList<>();
+    private final Map<Dispatcher, Integer> mPending = new HashMap<>();
+
+    private final AtomicLong mRequeries = new AtomicLong();
+    private final AtomicLong mTotalLatency = new AtomicLong();
+    private final AtomicLong mMaxLatency = new AtomicLong();
+
+    private final Executor mRequery = new Executor() {
+        @Override
+        public void execute(@NonNull final Runnable command) {
+            mWorkers.execute(new Timed(SharedPoolExecutor.this, command));
+        }
+    };
+
+    public SharedPoolExecutor(final int loopers, final int workers) {
+        this(loopers, workers, Manager.Factory.Default);
+    }
+
+    public SharedPoolExecutor(final int loopers, final int workers, @NonNull final Manager.Factory factory) {
+        super();
+
+        checkSizes(loopers, workers);
+        mLoopers = loopers;
+        mFactory = factory;
+        mWorkers = workers(workers);
+    }
+
+    public SharedPoolExecutor(final int loopers,
+                              final int workers,
+                              final long removalDelay,
+                              @NonNull final TimeUnit removalDelayUnit) {
+        this(loopers, workers, removalDelay, removalDelayUnit, Manager.Factory.Default);
+    }
+
+    public SharedPoolExecutor(final int loopers,
+                              final int workers,
+                              final long removalDelay,
+                              @NonNull final TimeUnit removalDelayUnit,
+                              @NonNull final Manager.Factory factory) {
+        super(removalDelay, removalDelayUnit);
+
+        checkSizes(loopers, workers);
+        mLoopers = loopers;
+        mFactory = factory;
+        mWorkers = workers(workers);
+    }
+
+    public final void shutdown() {
+        mLock.lock();
+        try {
+            for (final Dispatcher dispatcher : mDispatchers) {
+                dispatcher.stop();
+            }
+            mDispatchers.clear();
+            mPending.clear();
+        } finally {
+            mLock.unlock();
+        }
+
+        mWorkers.shutdown();
+    }
+
+    public final int getLooperCount() {
+        final int result;
+
+        mLock.lock();
+        try {
+            result = mDispatchers.size();
+        } finally {
+            mLock.unlock();
+        }
+
+        return result;
+    }
+
+    public final int getWorkerCount() {
+        return mWorkers.getPoolSize();
+    }
+
+    public final int getThreadCount() {
+        return getLooperCount() + getWorkerCount();
+    }
+
+    public final int getQueueDepth() {
+        return mWorkers.getQueue().size();
+    }
+
+    public final long getRequeryCount() {
+        return mRequeries.get();
+    }
+
+    public final long getAverageRequeryLatency(@NonNull final TimeUnit unit) {
+        final long count = mRequeries.get();
+        return (count > 0L) ? unit.convert(mTotalLatency.get() / count, NANOSECONDS) : 0L;
+    }
+
+    public final long getMaxRequeryLatency(@NonNull final TimeUnit unit) {
+        return unit.convert(mMaxLatency.get(), NANOSECONDS);
+    }
+
+    @Override
+    protected final void onSubmit(@NonNull final Observer observer) {
+        if (observer instanceof Coalescing) {
+            ((Coalescing) observer).offload(mRequery);
+        }
+    }
+
+    @Override
+    protected final void onSubmitted(@NonNull final Dispatcher dispatcher) {
+        mLock.lock();
+        try {
+            final Integer pending = mPending.remove(dispatcher);
+            if ((pending != null) && (pending > 1)) {
+                mPending.put(dispatcher, pending - 1);
+            }
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @NonNull
+    @Override
+    protected final Dispatcher get(@NonNull final ContentResolver resolver,
+                                   @NonNull final Route route,
+                                   @NonNull final Uri uri) {
+        Dispatcher dispatcher = null;
+
+        mLock.lock();
+        try {
+            if (mWorkers.isShutdown()) {
+                throw new IllegalStateException("Executor was shut down");
+            }
+
+            final int size = mDispatchers.size();
+            for (int i = 0; i < size; i++) {
+                final Dispatcher current = mDispatchers.get(i);
+                if ((dispatcher == null) || (load(current) < load(dispatcher))) {
+                    dispatcher = current;
+                }
+            }
+
+            if ((dispatcher == null) || ((size < mLoopers) && (load(dispatcher) > 0))) {
+                dispatcher = new Dispatcher(mFactory.create(resolver));
+                dispatcher.start();
+                mDispatchers.add(dispatcher);
+            }
+
+            final Integer pending = mPending.get(dispatcher);
+            mPending.put(dispatcher, (pending == null) ? 1 : (pending + 1));
+        } finally {
+            mLock.unlock();
+        }
+
+        return dispatcher;
+    }
+
+    @Override
+    protected final void stop(@NonNull final Dispatcher dispatcher,
+                              @NonNull final Route route,
+                              @NonNull final Uri uri) {
+        mLock.lock();
+        try {
+            if (dispatcher.isEmpty() && !mPending.containsKey(dispatcher) && mDispatchers.remove(dispatcher)) {
+                dispatcher.stop();
+            }
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    private int load(@NonNull final Dispatcher dispatcher) {
+        final Integer pending = mPending.get(dispatcher);
+        return dispatcher.size() + ((pending == null) ? 0 : pending);
+    }
+
+    private void record(final long latency) {
+        mRequeries.incrementAndGet();
+        mTotalLatency.addAndGet(latency);
+
+        long max = mMaxLatency.get();
+        while ((latency > max) && !mMaxLatency.compareAndSet(max, latency)) {
+            max = mMaxLatency.get();
+        }
+    }
+
+    private static void checkSizes(final int loopers, final int workers) {
+        if ((loopers < 1) || (workers < 1)) {
+            throw new IllegalArgumentException("Loopers and workers must be positive");
+        }
+    }
+
+    @NonNull
+    private static ThreadPoolExecutor workers(final int size) {
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), Background);
+    }
+
+    private static class Timed implements Runnable {
+
+        @NonNull
+        private final SharedPoolExecutor mExecutor;
+        @NonNull
+        private final Runnable mCommand;
+        private final long mEnqueued;
+
+        private Timed(@NonNull final SharedPoolExecutor executor, @NonNull final Runnable command) {
+            super();
+
+            mExecutor = executor;
+            mCommand = command;
+            mEnqueued = nanoTime();
+        }
+
+        @Override
+        public final void run() {
+            try {
+                mCommand.run();
+            } finally {
+                mExecutor.record(nanoTime() - mEnqueued);
+            }
+        }
+    }
+}